@@ -17,6 +17,9 @@ package io.geronimo;
 
 import lombok.experimental.UtilityClass;
 
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
 /**
  * 입력된 일자로 부터 나이(실제 나이, 만 나이)를 알아내는 기능들을 제공한다.
  * 
@@ -26,6 +29,9 @@ import lombok.experimental.UtilityClass;
  */
 @UtilityClass
 public final class AgeUtils {
+
+	/** 배열 연산을 병렬로 나누어 처리하기 시작하는 최소 길이 */
+	public static final int PARALLEL_THRESHOLD = Chunks.PARALLEL_THRESHOLD;
 	
     /**
      * "yyyyMMdd" 문자열 형태로 입력된 생년월일과 기준일자를 바탕으로 만 나이를 구한다.<br><br>
@@ -69,4 +75,134 @@ public final class AgeUtils {
    		return Integer.parseInt(baseDate.substring(0, 4)) - Integer.parseInt(birthdate.substring(0, 4)) + 1;    	
     }
 
+    /**
+     * yyyyMMdd 정수 형태로 입력된 생년월일과 기준일자를 바탕으로 만 나이를 구한다.<br><br>
+     *
+     * AgeUtils.getAge(19740608, 20090607) // age = 34
+     *
+     * @param birthdate 생년월일
+     * @param baseDate 기준일자
+     * @return 만 나이
+     */
+    public static int getAge(int birthdate, int baseDate) {
+    	return PackedDate.getAge(birthdate, baseDate);
+    }
+
+    /**
+     * yyyyMMdd 정수 형태로 입력된 생년월일과 기준일자를 바탕으로 전통 나이를 구한다.
+     *
+     * @param birthdate 생년월일
+     * @param baseDate 기준일자
+     * @return 한국식 나이
+     */
+    public static int getKoreanAge(int birthdate, int baseDate) {
+    	return PackedDate.getKoreanAge(birthdate, baseDate);
+    }
+
+    /**
+     * yyyyMMdd 정수 배열로 입력된 생년월일의 만 나이를 구한다.<br>
+     * 만 나이는 (기준일자 - 생년월일) / 10000 과 같으므로 분기 없는 반복문으로 계산한다.
+     * 기준일자 이후의 생년월일은 getAge와 결과가 다를 수 있다.
+     *
+     * @param birthdates 생년월일 배열
+     * @param baseDate 기준일자
+     * @return 만 나이 배열
+     */
+    public static int[] getAges(int[] birthdates, int baseDate) {
+
+    	int[] ages = new int[birthdates.length];
+
+    	Chunks.forEach(birthdates.length, PARALLEL_THRESHOLD, (from, to) -> {
+    		for (int i = from; i < to; i++) {
+    			ages[i] = (baseDate - birthdates[i]) / 10_000;
+    		}
+    	});
+
+    	return ages;
+    }
+
+    /**
+     * 나이 구간별 인원수를 구한다. bounds는 각 구간의 시작 나이(오름차순)이다.<br><br>
+     *
+     * AgeUtils.countByAgeBand(birthdates, 20140608, 20, 30, 40) // [20세 미만, 20~29, 30~39, 40세 이상]
+     *
+     * @param birthdates 생년월일 배열
+     * @param baseDate 기준일자
+     * @param bounds 구간 시작 나이
+     * @return bounds.length + 1 개의 구간별 인원수
+     */
+    public static long[] countByAgeBand(int[] birthdates, int baseDate, int... bounds) {
+
+    	long[] counts = new long[bounds.length + 1];
+    	long previous = birthdates.length;
+
+    	// 만 N세 이상 <=> 생년월일 <= 기준일자 - N * 10000 이므로, 구간마다 비교 횟수만 센다.
+    	for (int k = 0; k < bounds.length; k++) {
+
+    		if (k > 0 && bounds[k] < bounds[k - 1]) {
+    			throw new IllegalArgumentException("bounds must be ascending: " + bounds[k - 1] + ", " + bounds[k]);
+    		}
+
+    		long atLeast = countAtMost(birthdates, cutoff(baseDate, bounds[k]));
+    		counts[k] = previous - atLeast;
+    		previous = atLeast;
+    	}
+    	counts[bounds.length] = previous;
+
+    	return counts;
+    }
+
+    /**
+     * 만 나이가 minAge 이상 maxAge 이하인 원소의 위치를 bitmap으로 반환한다.<br><br>
+     *
+     * AgeUtils.filterByAge(birthdates, 20140608, 19, Integer.MAX_VALUE) // 만 19세 이상
+     *
+     * @param birthdates 생년월일 배열
+     * @param baseDate 기준일자
+     * @param minAge 최소 나이
+     * @param maxAge 최대 나이
+     * @return 조건을 만족하는 index의 bitmap
+     */
+    public static BitSet filterByAge(int[] birthdates, int baseDate, int minAge, int maxAge) {
+
+    	long upper = cutoff(baseDate, minAge);
+    	long lower = maxAge == Integer.MAX_VALUE ? Long.MIN_VALUE : cutoff(baseDate, maxAge + 1);
+    	long[] words = new long[(birthdates.length + 63) >>> 6];
+
+    	Chunks.forEach(birthdates.length, PARALLEL_THRESHOLD, (from, to) -> {
+    		for (int i = from; i < to; i++) {
+    			int birthdate = birthdates[i];
+    			long bit = birthdate <= upper & birthdate > lower ? 1L : 0L;
+    			words[i >>> 6] |= bit << i;
+    		}
+    	});
+
+    	return BitSet.valueOf(words);
+    }
+
+    private static long cutoff(int baseDate, int age) {
+    	return baseDate - age * 10_000L;
+    }
+
+    private static long countAtMost(int[] birthdates, long cutoff) {
+
+    	if (birthdates.length < PARALLEL_THRESHOLD) {
+    		return countAtMost(birthdates, cutoff, 0, birthdates.length);
+    	}
+
+    	return IntStream.range(0, Chunks.count(birthdates.length)).parallel()
+    			.mapToLong(chunk -> countAtMost(birthdates, cutoff, chunk * Chunks.CHUNK_SIZE, Math.min(birthdates.length, (chunk + 1) * Chunks.CHUNK_SIZE)))
+    			.sum();
+    }
+
+    private static long countAtMost(int[] birthdates, long cutoff, int from, int to) {
+
+    	int count = 0;
+
+    	for (int i = from; i < to; i++) {
+    		count += birthdates[i] <= cutoff ? 1 : 0;
+    	}
+
+    	return count;
+    }
 }
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주말과 공휴일을 제외한 영업일(business day) 달력.<br>
+ * 공휴일 파일을 읽을 때 달력 범위 전체의 영업일 bitmap, 누적 영업일 수(prefix sum), 영업일 목록을 미리 계산하므로
+ * {@link #isBusinessDay}, {@link #addBusinessDays}, {@link #getBusinessDays}는 배열 조회 몇 번으로 끝난다.<br><br>
+ *
+ * 공휴일 파일은 한 줄에 "yyyyMMdd 명칭" 형식이며, '#' 이후는 주석이다.
+ * 달력의 범위는 파일에 기재된 첫 해의 1월 1일부터 마지막 해의 12월 31일까지이고, 범위를 벗어난 일자는 IllegalArgumentException이 발생한다.<br>
+ * 기본 달력({@link #getDefault()})은 classpath의 {@value #DEFAULT_RESOURCE}를 사용한다.<br><br>
+ *
+ * 공휴일은 매년 공표되므로 기본 달력은 공표된 해까지만 포함한다. 기본 달력을 사용하는 쪽은 {@link #getLastYear()}로 범위를 확인하고,
+ * 다음 해 공휴일이 공표되면 공휴일 파일을 갱신하거나 {@link #load(Path)}로 운영 중인 파일을 읽어야 한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@Slf4j
+public final class BusinessCalendar {
+
+	/** 기본 공휴일 파일 */
+	public static final String DEFAULT_RESOURCE = "/io/geronimo/holidays-kr.txt";
+
+	private final int firstYear;
+
+	private final int lastYear;
+
+	/** 달력 첫날의 epoch day */
+	private final long startEpochDay;
+
+	/** 달력의 일 수 */
+	private final int length;
+
+	/** 달력 첫날부터의 영업일 bitmap */
+	private final long[] businessDays;
+
+	/** prefixCounts[i] = 달력 첫날부터 i일 전까지의 영업일 수, 길이 length + 1 */
+	private final int[] prefixCounts;
+
+	/** 영업일의 달력 index, 오름차순 */
+	private final int[] businessIndexes;
+
+	private final Map<Integer, String> holidays;
+
+	private static final class DefaultHolder {
+
+		private static final BusinessCalendar INSTANCE = loadDefault();
+
+		private static BusinessCalendar loadDefault() {
+
+			try (InputStream in = BusinessCalendar.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+
+				if (in == null) {
+					throw new IllegalStateException("Resource not found: " + DEFAULT_RESOURCE);
+				}
+
+				return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private BusinessCalendar(int firstYear, int lastYear, Map<Integer, String> holidays) {
+
+		this.firstYear = firstYear;
+		this.lastYear = lastYear;
+		this.holidays = Collections.unmodifiableMap(holidays);
+		this.startEpochDay = FixedDateFormat.epochDay(firstYear, 1, 1);
+		this.length = (int) (FixedDateFormat.epochDay(lastYear + 1, 1, 1) - startEpochDay);
+		this.businessDays = new long[(length + 63) >>> 6];
+		this.prefixCounts = new int[length + 1];
+
+		// 1970-01-01(epoch day 0)은 목요일이다. 0 = 월요일
+		int dayOfWeek = (int) Math.floorMod(startEpochDay + 3, 7);
+
+		for (int i = 0; i < length; i++, dayOfWeek = dayOfWeek == 6 ? 0 : dayOfWeek + 1) {
+
+			boolean business = dayOfWeek < 5 && !holidays.containsKey(PackedDate.ofEpochDay(startEpochDay + i));
+
+			if (business) {
+				businessDays[i >>> 6] |= 1L << i;
+			}
+			prefixCounts[i + 1] = prefixCounts[i] + (business ? 1 : 0);
+		}
+
+		this.businessIndexes = new int[prefixCounts[length]];
+
+		for (int i = 0, n = 0; i < length; i++) {
+			if ((businessDays[i >>> 6] & 1L << i) != 0) {
+				businessIndexes[n++] = i;
+			}
+		}
+	}
+
+	/**
+	 * @return classpath의 기본 공휴일 파일로 만든 달력
+	 */
+	public static BusinessCalendar getDefault() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	/**
+	 * 로컬 공휴일 파일로 달력을 만든다.
+	 *
+	 * @param path 공휴일 파일 (UTF-8)
+	 * @return 영업일 달력, 파일을 읽지 못하면 null
+	 */
+	public static BusinessCalendar load(Path path) {
+
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			return parse(reader);
+		} catch (IOException e) {
+			log.error("BusinessCalendar-load :: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 공휴일 목록으로 달력을 만든다.
+	 *
+	 * @param firstYear 달력의 첫 해
+	 * @param lastYear 달력의 마지막 해
+	 * @param holidays yyyyMMdd 형태의 공휴일
+	 * @return 영업일 달력
+	 */
+	public static BusinessCalendar of(int firstYear, int lastYear, int... holidays) {
+
+		if (firstYear > lastYear) {
+			throw new IllegalArgumentException("firstYear > lastYear: " + firstYear + ", " + lastYear);
+		}
+
+		Map<Integer, String> map = new TreeMap<>();
+
+		for (int holiday : holidays) {
+
+			if (!PackedDate.isValid(holiday)) {
+				throw new IllegalArgumentException("Invalid holiday: " + holiday);
+			}
+			map.put(holiday, "");
+		}
+
+		return new BusinessCalendar(firstYear, lastYear, map);
+	}
+
+	private static BusinessCalendar parse(Reader reader) throws IOException {
+
+		TreeMap<Integer, String> holidays = new TreeMap<>();
+		BufferedReader lines = new BufferedReader(reader);
+		String line;
+		int lineNumber = 0;
+
+		while ((line = lines.readLine()) != null) {
+
+			lineNumber++;
+
+			int comment = line.indexOf('#');
+			String entry = (comment < 0 ? line : line.substring(0, comment)).trim();
+
+			if (entry.isEmpty()) {
+				continue;
+			}
+
+			String[] fields = entry.split("\\s+", 2);
+
+			try {
+				holidays.put(PackedDate.parse(fields[0]), fields.length > 1 ? fields[1] : "");
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Invalid holiday at line " + lineNumber + ": " + line, e);
+			}
+		}
+
+		if (holidays.isEmpty()) {
+			throw new IllegalArgumentException("No holidays defined");
+		}
+
+		return new BusinessCalendar(PackedDate.year(holidays.firstKey()), PackedDate.year(holidays.lastKey()), holidays);
+	}
+
+	public int getFirstYear() {
+		return firstYear;
+	}
+
+	public int getLastYear() {
+		return lastYear;
+	}
+
+	/**
+	 * @return yyyyMMdd 공휴일과 명칭 (주말 제외)
+	 */
+	public Map<Integer, String> getHolidays() {
+		return holidays;
+	}
+
+	/**
+	 * @param date yyyyMMdd 형태의 일자
+	 * @return 주말, 공휴일이 아니면 true
+	 */
+	public boolean isBusinessDay(int date) {
+
+		int index = indexOf(date);
+
+		return (businessDays[index >>> 6] & 1L << index) != 0;
+	}
+
+	public boolean isBusinessDay(LocalDate date) {
+		return isBusinessDay(toPackedDate(date));
+	}
+
+	/**
+	 * date 이후(days &gt; 0) 또는 이전(days &lt; 0)의 days 번째 영업일을 구한다. date가 휴일이어도 같은 방식으로 센다.<br><br>
+	 *
+	 * calendar.addBusinessDays(20240208, 1) = 20240213 // 설날 연휴, 대체공휴일 다음 영업일
+	 *
+	 * @param date yyyyMMdd 형태의 일자
+	 * @param days 영업일 수, 0이면 date를 그대로 반환
+	 * @return yyyyMMdd 형태의 영업일
+	 */
+	public int addBusinessDays(int date, int days) {
+
+		int index = indexOf(date);
+
+		if (days == 0) {
+			return date;
+		}
+
+		// prefixCounts[index + 1]은 date까지(포함)의 영업일 수, prefixCounts[index]는 date 이전의 영업일 수이다.
+		long target = days > 0 ? prefixCounts[index + 1] + (long) days - 1 : prefixCounts[index] + (long) days;
+
+		if (target < 0 || target >= businessIndexes.length) {
+			throw new IllegalArgumentException("Result out of calendar range " + firstYear + "-" + lastYear + ": " + date + " + " + days);
+		}
+
+		return PackedDate.ofEpochDay(startEpochDay + businessIndexes[(int) target]);
+	}
+
+	public LocalDate addBusinessDays(LocalDate date, int days) {
+
+		int result = addBusinessDays(toPackedDate(date), days);
+
+		return LocalDate.of(PackedDate.year(result), PackedDate.month(result), PackedDate.day(result));
+	}
+
+	/**
+	 * startDate(포함)부터 endDate(미포함)까지의 영업일 수를 구한다. endDate가 앞서면 음수이다.<br>
+	 * 경계로만 쓰이므로 두 일자 모두 마지막 해의 다음 해 1월 1일까지 지정할 수 있다.<br><br>
+	 *
+	 * calendar.getBusinessDays(20240205, 20240213) = 4
+	 *
+	 * @param startDate yyyyMMdd 형태의 시작일
+	 * @param endDate yyyyMMdd 형태의 종료일
+	 * @return 영업일 수
+	 */
+	public int getBusinessDays(int startDate, int endDate) {
+		return prefixCounts[boundaryOf(endDate)] - prefixCounts[boundaryOf(startDate)];
+	}
+
+	public int getBusinessDays(LocalDate startDate, LocalDate endDate) {
+		return getBusinessDays(toPackedDate(startDate), toPackedDate(endDate));
+	}
+
+	private int indexOf(int date) {
+		return indexOf(date, length - 1);
+	}
+
+	/**
+	 * 구간의 경계로 쓰이는 일자의 index. 달력 다음 날(index = length)까지 허용한다.
+	 */
+	private int boundaryOf(int date) {
+		return indexOf(date, length);
+	}
+
+	private int indexOf(int date, int maxIndex) {
+
+		if (!PackedDate.isValid(date)) {
+			throw new IllegalArgumentException("Invalid date: " + date);
+		}
+
+		long index = PackedDate.toEpochDay(date) - startEpochDay;
+
+		if (index < 0 || index > maxIndex) {
+			throw new IllegalArgumentException("Date out of calendar range " + firstYear + "-" + lastYear + ": " + date);
+		}
+
+		return (int) index;
+	}
+
+	private static int toPackedDate(LocalDate date) {
+		return date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+	}
+}
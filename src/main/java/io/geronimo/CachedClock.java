@@ -0,0 +1,145 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 ticker가 주기적으로 갱신하는 저해상도(coarse) 시계.<br>
+ * 로그, 감사(audit) 기록처럼 현재 시각 문자열을 매우 자주 조회하는 곳에서 사용한다.<br>
+ * 조회는 volatile 필드를 읽기만 하므로 lock, 객체 생성이 없으며, 값은 최대 {@value #RESOLUTION_MILLIS}ms 늦을 수 있다.<br>
+ * 밀리초 단위의 정확한 시각이 필요하면 System.currentTimeMillis(), TimeUtils.currentTimeMillis()를 사용한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@UtilityClass
+public final class CachedClock {
+
+	/** ticker의 갱신 주기(ms) */
+	public static final long RESOLUTION_MILLIS = 10;
+
+	private static final FixedDateFormat.Layout[] LAYOUTS = FixedDateFormat.Layout.values();
+
+	private static volatile long currentMillis = System.currentTimeMillis();
+
+	private static volatile Second second = new Second(Math.floorDiv(currentMillis, 1000L));
+
+	static {
+		ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "geronimo-cached-clock");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		ticker.scheduleAtFixedRate(CachedClock::tick, RESOLUTION_MILLIS, RESOLUTION_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 현재 초에 대한 epoch 값과 포맷된 문자열. 초가 바뀔 때 한 번만 만들어진다.
+	 */
+	private static final class Second {
+
+		private final long epochSecond;
+
+		/** FixedDateFormat.Layout 순서의 현재 시각 문자열, TIMESTAMP는 millis가 필요하므로 null */
+		private final String[] formatted = new String[LAYOUTS.length];
+
+		private Second(long epochSecond) {
+
+			this.epochSecond = epochSecond;
+
+			ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.systemDefault());
+			long epochMillis = epochSecond * 1000L;
+			long localMillis = table.toLocalMillis(epochMillis);
+
+			for (FixedDateFormat.Layout layout : LAYOUTS) {
+				if (layout != FixedDateFormat.Layout.TIMESTAMP) {
+					char[] buffer = new char[layout.length()];
+					FixedDateFormat.formatTo(localMillis, ZoneOffset.UTC, layout, buffer, 0);
+					formatted[layout.ordinal()] = new String(buffer);
+				}
+			}
+		}
+	}
+
+	private static void tick() {
+
+		long millis = System.currentTimeMillis();
+		long epochSecond = Math.floorDiv(millis, 1000L);
+
+		if (epochSecond != second.epochSecond) {
+			second = new Second(epochSecond);
+		}
+
+		currentMillis = millis;
+	}
+
+	/**
+	 * @return 마지막 tick 시점의 epoch millis
+	 */
+	public static long currentTimeMillis() {
+		return currentMillis;
+	}
+
+	/**
+	 * @return 마지막 tick 시점의 epoch second
+	 */
+	public static long currentEpochSecond() {
+		return second.epochSecond;
+	}
+
+	/**
+	 * @return (yyyy-MM-dd HH:mm:ss) 포맷의 현재 시각
+	 */
+	public static String now() {
+		return second.formatted[FixedDateFormat.Layout.DATE_TIME.ordinal()];
+	}
+
+	/**
+	 * @return (yyyy-MM-dd) 포맷의 현재 일자
+	 */
+	public static String today() {
+		return second.formatted[FixedDateFormat.Layout.DATE_DASH.ordinal()];
+	}
+
+	/**
+	 * 고정 길이 포맷의 현재 시각 문자열을 반환한다. TIMESTAMP 포맷은 캐시하지 않고 마지막 tick의 millis로 생성한다.
+	 *
+	 * @param layout 고정 길이 포맷
+	 * @return 현재 시각 문자열
+	 */
+	public static String now(FixedDateFormat.Layout layout) {
+
+		String formatted = second.formatted[layout.ordinal()];
+
+		if (formatted != null) {
+			return formatted;
+		}
+
+		long millis = currentMillis;
+		char[] buffer = new char[layout.length()];
+		FixedDateFormat.formatTo(ZoneOffsetTable.of(ZoneId.systemDefault()).toLocalMillis(millis), ZoneOffset.UTC, layout, buffer, 0);
+
+		return new String(buffer);
+	}
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 카드번호 앞자리(BIN/IIN)로 브랜드와 발급사를 찾는 접두어 색인.<br>
+ * 접두어 범위를 최소 개수의 10진 접두어로 나누어 숫자 trie에 저장하므로, 조회는 카드번호 앞자리를 한 번 읽는 O(접두어 길이)이며 객체를 만들지 않는다.
+ * 여러 접두어가 일치하면 가장 긴 접두어를 사용한다.<br><br>
+ *
+ * BIN 파일은 한 줄에 "접두어[-접두어] 브랜드 [발급사]" 형식이며, '#' 이후는 주석이다.
+ * 기본 색인({@link #getDefault()})은 classpath의 {@value #DEFAULT_RESOURCE}를 사용한다.<br><br>
+ *
+ * CardBinTable.getDefault().lookup("4009-1311-1234-4321").getBrand() = "VISA"
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@Slf4j
+public final class CardBinTable {
+
+	/** 기본 BIN 파일 */
+	public static final String DEFAULT_RESOURCE = "/io/geronimo/card-bins.txt";
+
+	/** 접두어의 최대 자릿수 */
+	public static final int MAX_PREFIX_LENGTH = 11;
+
+	private static final int NO_NODE = 0;
+
+	private static final long[] POWERS_OF_TEN = new long[MAX_PREFIX_LENGTH + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	/** children[node * 10 + digit] = 자식 node, 0이면 없음. node 0은 root */
+	private final int[] children;
+
+	/** 각 node에 연결된 BIN 정보, 없으면 null */
+	private final CardBin[] bins;
+
+	/**
+	 * BIN 정보
+	 */
+	public static final class CardBin {
+
+		private final String brand;
+
+		private final String issuer;
+
+		public CardBin(String brand, String issuer) {
+			this.brand = brand;
+			this.issuer = issuer;
+		}
+
+		public String getBrand() {
+			return brand;
+		}
+
+		/**
+		 * @return 발급사, 파일에 지정되지 않았으면 null
+		 */
+		public String getIssuer() {
+			return issuer;
+		}
+
+		@Override
+		public String toString() {
+			return issuer == null ? brand : brand + " " + issuer;
+		}
+	}
+
+	private static final class DefaultHolder {
+
+		private static final CardBinTable INSTANCE = loadDefault();
+
+		private static CardBinTable loadDefault() {
+
+			try (InputStream in = CardBinTable.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+
+				if (in == null) {
+					throw new IllegalStateException("Resource not found: " + DEFAULT_RESOURCE);
+				}
+
+				return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * trie를 만드는 동안 사용하는 가변 배열
+	 */
+	private static final class Builder {
+
+		private int[] children = new int[10 * 64];
+
+		private CardBin[] bins = new CardBin[64];
+
+		private int size = 1;
+
+		private void put(long prefix, int length, CardBin bin) {
+
+			int node = 0;
+
+			for (int i = length - 1; i >= 0; i--) {
+
+				int digit = (int) (prefix / POWERS_OF_TEN[i] % 10);
+				int slot = node * 10 + digit;
+
+				if (children[slot] == NO_NODE) {
+					ensureCapacity();
+					children[slot] = size++;
+				}
+				node = children[slot];
+			}
+
+			bins[node] = bin;
+		}
+
+		private void ensureCapacity() {
+
+			if (size == bins.length) {
+				bins = Arrays.copyOf(bins, size * 2);
+				children = Arrays.copyOf(children, size * 20);
+			}
+		}
+
+		private CardBinTable build() {
+			return new CardBinTable(Arrays.copyOf(children, size * 10), Arrays.copyOf(bins, size));
+		}
+	}
+
+	private CardBinTable(int[] children, CardBin[] bins) {
+		this.children = children;
+		this.bins = bins;
+	}
+
+	/**
+	 * @return classpath의 기본 BIN 파일로 만든 색인
+	 */
+	public static CardBinTable getDefault() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	/**
+	 * 로컬 BIN 파일로 색인을 만든다.
+	 *
+	 * @param path BIN 파일 (UTF-8)
+	 * @return BIN 색인, 파일을 읽지 못하거나 형식이 올바르지 않은 줄이 있으면 null
+	 */
+	public static CardBinTable load(Path path) {
+
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			return parse(reader);
+		} catch (IOException | IllegalArgumentException e) {
+			log.error("CardBinTable-load :: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static CardBinTable parse(Reader reader) throws IOException {
+
+		Builder builder = new Builder();
+		BufferedReader lines = new BufferedReader(reader);
+		String line;
+		int lineNumber = 0;
+
+		while ((line = lines.readLine()) != null) {
+
+			lineNumber++;
+
+			int comment = line.indexOf('#');
+			String entry = (comment < 0 ? line : line.substring(0, comment)).trim();
+
+			if (entry.isEmpty()) {
+				continue;
+			}
+
+			String[] fields = entry.split("\\s+", 3);
+
+			if (fields.length < 2) {
+				throw new IllegalArgumentException("Invalid BIN at line " + lineNumber + ": " + line);
+			}
+
+			String[] range = fields[0].split("-", 2);
+			String first = range[0];
+			String last = range.length > 1 ? range[1] : first;
+
+			if (!isPrefix(first) || !isPrefix(last) || first.length() != last.length() || first.compareTo(last) > 0) {
+				throw new IllegalArgumentException("Invalid BIN range at line " + lineNumber + ": " + line);
+			}
+
+			CardBin bin = new CardBin(fields[1], fields.length > 2 ? fields[2] : null);
+
+			for (long[] prefix : cover(Long.parseLong(first), Long.parseLong(last), first.length())) {
+				builder.put(prefix[0], (int) prefix[1], bin);
+			}
+		}
+
+		return builder.build();
+	}
+
+	private static boolean isPrefix(String value) {
+
+		if (value.isEmpty() || value.length() > MAX_PREFIX_LENGTH) {
+			return false;
+		}
+
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * length 자리 숫자의 범위 [first, last]를 덮는 최소 개수의 (접두어, 자릿수) 목록을 구한다.<br>
+	 * 예) 2221-2720 = 2221~2229, 223~229, 23~26, 270, 271, 2720
+	 */
+	private static List<long[]> cover(long first, long last, int length) {
+
+		List<long[]> prefixes = new ArrayList<>();
+		long value = first;
+
+		while (value <= last) {
+
+			int k = 0;
+
+			// value가 10^(k+1)의 배수이고 그 블록 전체가 범위 안에 있으면 블록을 한 자리 짧은 접두어로 넓힌다.
+			while (k < length - 1 && value % POWERS_OF_TEN[k + 1] == 0 && value + POWERS_OF_TEN[k + 1] - 1 <= last) {
+				k++;
+			}
+
+			prefixes.add(new long[] { value / POWERS_OF_TEN[k], length - k });
+			value += POWERS_OF_TEN[k];
+		}
+
+		return prefixes;
+	}
+
+	/**
+	 * 카드번호의 가장 긴 일치 접두어에 해당하는 BIN 정보를 반환한다. 공백과 '-'는 건너뛴다.
+	 *
+	 * @param cardNumber 카드번호
+	 * @return BIN 정보, 일치하는 접두어가 없으면 null
+	 */
+	public CardBin lookup(CharSequence cardNumber) {
+		return cardNumber == null ? null : lookup(cardNumber, 0, cardNumber.length());
+	}
+
+	public CardBin lookup(CharSequence cardNumber, int from, int to) {
+
+		CardBin found = bins[0];
+		int node = 0;
+
+		for (int i = from; i < to; i++) {
+
+			char c = cardNumber.charAt(i);
+
+			if (c == ' ' || c == '-') {
+				continue;
+			}
+			if (c < '0' || c > '9') {
+				break;
+			}
+
+			node = children[node * 10 + c - '0'];
+
+			if (node == NO_NODE) {
+				break;
+			}
+			if (bins[node] != null) {
+				found = bins[node];
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Luhn 검증을 통과하고 BIN 색인에 등록된 카드번호인지 확인한다.
+	 *
+	 * @param cardNumber 카드번호
+	 * @return 유효한 카드번호이면 true
+	 */
+	public boolean isValid(CharSequence cardNumber) {
+		return ValidationUtils.isLuhnNumber(cardNumber) && lookup(cardNumber) != null;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.stream.IntStream;
+
+/**
+ * 배열 연산을 일정 크기의 구간으로 나누어 병렬로 처리하는 내부 유틸리티.<br>
+ * 구간 크기는 64의 배수이므로 구간별로 bitmap(long[])의 서로 다른 word에만 기록한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@UtilityClass
+final class Chunks {
+
+	/** 한 작업이 맡는 원소 수 */
+	static final int CHUNK_SIZE = 1 << 14;
+
+	/**
+	 * 병렬로 처리하기 시작하는 최소 원소 수. 구간이 두 개 이상이어야 나누어 처리할 작업이 생기므로 CHUNK_SIZE의 두 배로 한다.
+	 * 그보다 짧은 배열은 fork/join 비용이 원소별 연산보다 크다.
+	 */
+	static final int PARALLEL_THRESHOLD = CHUNK_SIZE * 2;
+
+	interface RangeTask {
+		void run(int from, int to);
+	}
+
+	/**
+	 * length가 parallelThreshold 미만이면 호출한 스레드에서 한 번에, 이상이면 CHUNK_SIZE 단위로 나누어 병렬로 task를 실행한다.
+	 */
+	static void forEach(int length, int parallelThreshold, RangeTask task) {
+
+		if (length < parallelThreshold) {
+			task.run(0, length);
+			return;
+		}
+
+		IntStream.range(0, count(length)).parallel()
+				.forEach(chunk -> task.run(chunk * CHUNK_SIZE, Math.min(length, (chunk + 1) * CHUNK_SIZE)));
+	}
+
+	static int count(int length) {
+		return (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.BitSet;
+
+/**
+ * 이메일 주소와 전화번호를 한 번 읽으면서 검증하고 정규화된 형태로 변환한다.<br>
+ * 결과는 호출자가 넘긴 StringBuilder에 이어 쓰므로, 같은 buffer를 재사용하면 값마다 객체를 만들지 않는다.
+ * 검증에 실패하면 buffer는 호출 전 상태로 되돌린다.<br><br>
+ *
+ * 이메일 주소는 ValidationUtils.isEmailAddress와 같은 형식을 검증하고 domain을 소문자로 바꾼다.<br>
+ * 전화번호는 ValidationUtils.isTelephoneNumber와 같은 2~4, 3~4, 4자리 구분 형식, 구분자 없는 9~12자리 숫자, +82로 시작하는 국제 형식을 받아
+ * E.164 형식(+82 뒤에 국내 번호에서 맨 앞 0을 뺀 숫자)으로 바꾼다.<br><br>
+ *
+ * ContactNormalizer.normalize(Type.EMAIL, "Tw.Jang@GERONIMO.io", 0, 19, buffer) = true, buffer = "Tw.Jang@geronimo.io"<br>
+ * ContactNormalizer.normalize(Type.CELLPHONE, "010-1234-5678", 0, 13, buffer) = true, buffer = "+821012345678"
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@Slf4j
+@UtilityClass
+public final class ContactNormalizer {
+
+	/** 대한민국 국가 번호 */
+	public static final String COUNTRY_CODE = "+82";
+
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	/**
+	 * 정규화할 값의 종류
+	 */
+	public enum Type {
+
+		/** 이메일 주소 */
+		EMAIL,
+
+		/** 유선, 휴대전화를 포함한 전화번호 */
+		TELEPHONE,
+
+		/** 휴대전화 번호 (010, 011, 016, 017, 018, 019) */
+		CELLPHONE
+	}
+
+	/**
+	 * value의 [from, to) 구간을 검증하고 정규화된 형태를 out에 이어 쓴다. 앞뒤 공백은 무시한다.
+	 *
+	 * @param type 값의 종류
+	 * @param value 문자열
+	 * @param from 시작 위치
+	 * @param to 끝 위치(미포함)
+	 * @param out 결과를 이어 쓸 buffer
+	 * @return 유효하면 true, 유효하지 않으면 out을 그대로 두고 false를 반환
+	 */
+	public static boolean normalize(Type type, CharSequence value, int from, int to, StringBuilder out) {
+
+		while (from < to && value.charAt(from) == ' ') {
+			from++;
+		}
+		while (to > from && value.charAt(to - 1) == ' ') {
+			to--;
+		}
+
+		int mark = out.length();
+		boolean valid = type == Type.EMAIL ? appendEmail(value, from, to, out) : appendPhone(value, from, to, type == Type.CELLPHONE, out);
+
+		if (!valid) {
+			out.setLength(mark);
+		}
+
+		return valid;
+	}
+
+	/**
+	 * @param email 이메일 주소
+	 * @return domain을 소문자로 바꾼 이메일 주소, 유효하지 않으면 null
+	 */
+	public static String normalizeEmail(String email) {
+		return normalize(Type.EMAIL, email);
+	}
+
+	/**
+	 * @param phoneNumber 전화번호
+	 * @return E.164 형식의 전화번호, 유효하지 않으면 null
+	 */
+	public static String normalizePhone(String phoneNumber) {
+		return normalize(Type.TELEPHONE, phoneNumber);
+	}
+
+	private static String normalize(Type type, String value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		StringBuilder out = new StringBuilder(value.length() + 2);
+
+		return normalize(type, value, 0, value.length(), out) ? out.toString() : null;
+	}
+
+	/**
+	 * ([\w-\.]+)@((?:[\w]+\.)+)([a-zA-Z]{2,4}) 형식을 검증하면서 domain을 소문자로 쓴다.
+	 */
+	private static boolean appendEmail(CharSequence value, int from, int to, StringBuilder out) {
+
+		int at = from;
+
+		while (at < to && value.charAt(at) != '@') {
+
+			char c = value.charAt(at);
+
+			if (!isWordChar(c) && c != '-' && c != '.') {
+				return false;
+			}
+			at++;
+		}
+
+		if (at == from || at == to) {
+			return false;
+		}
+
+		out.append(value, from, at + 1);
+
+		// domain의 마지막 '.' 뒤가 최상위 domain이고, 그 앞은 비어있지 않은 \w+ label이다.
+		int label = 0;
+		int labels = 0;
+
+		for (int i = at + 1; i < to; i++) {
+
+			char c = value.charAt(i);
+
+			if (c == '.') {
+				if (label == 0) {
+					return false;
+				}
+				labels++;
+				label = 0;
+			} else if (isWordChar(c)) {
+				label++;
+			} else {
+				return false;
+			}
+
+			out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+		}
+
+		if (labels == 0 || label < 2 || label > 4) {
+			return false;
+		}
+
+		for (int i = to - label; i < to; i++) {
+			char c = value.charAt(i);
+
+			if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isWordChar(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
+	}
+
+	/**
+	 * 국내 번호의 숫자를 세고 구분자로 나뉜 묶음의 길이를 검증하면서 E.164 형식으로 쓴다.
+	 */
+	private static boolean appendPhone(CharSequence value, int from, int to, boolean cellphone, StringBuilder out) {
+
+		// 국제 형식은 맨 앞 0이 빠진 국내 번호로 본다.
+		boolean international = to - from > COUNTRY_CODE.length() && value.charAt(from) == '+';
+
+		if (international) {
+			for (int i = 0; i < COUNTRY_CODE.length(); i++) {
+				if (value.charAt(from + i) != COUNTRY_CODE.charAt(i)) {
+					return false;
+				}
+			}
+			from += COUNTRY_CODE.length();
+
+			if (value.charAt(from) == '-' || value.charAt(from) == ' ') {
+				from++;
+			}
+		}
+
+		out.append(COUNTRY_CODE);
+
+		int digits = international ? 1 : 0;
+		int groups = 0;
+		int group = digits;
+		int first = 0;
+		int second = 0;
+
+		for (int i = from; i < to; i++) {
+
+			char c = value.charAt(i);
+
+			if (c == '-' || c == ' ') {
+				if (group == 0 || groups == 2) {
+					return false;
+				}
+				if (groups == 0) {
+					first = group;
+				} else {
+					second = group;
+				}
+				groups++;
+				group = 0;
+				continue;
+			}
+
+			if (c < '0' || c > '9') {
+				return false;
+			}
+
+			// digits는 국내 번호에서의 자리 (0 = 맨 앞 0)
+			if (digits == 0) {
+				if (c != '0') {
+					return false;
+				}
+			} else {
+				if (digits == 1 && international && c == '0') {
+					return false;
+				}
+				if (cellphone && (digits == 1 && c != '1' || digits == 2 && "016789".indexOf(c) < 0)) {
+					return false;
+				}
+				out.append(c);
+			}
+
+			digits++;
+			group++;
+		}
+
+		if (groups == 0) {
+			return digits >= (cellphone ? 10 : 9) && digits <= (cellphone ? 11 : 12);
+		}
+
+		return groups == 2 && first >= (cellphone ? 3 : 2) && first <= (cellphone ? 3 : 4) && second >= 3 && second <= 4 && group == 4;
+	}
+
+	/**
+	 * 구분자로 이어진 행을 읽으면서 columnTypes에 지정된 필드를 정규화하여 쓴다. 행은 한 번만 읽으며, 행과 필드 buffer를 재사용한다.<br>
+	 * 유효하지 않은 필드는 원래 값을 그대로 쓰고 해당 행 번호를 결과에 표시한다. 비어있는 필드는 검증하지 않는다.
+	 * 따옴표로 감싼 필드는 지원하지 않으며, 행 구분자는 '\n'으로 쓴다.<br><br>
+	 *
+	 * ContactNormalizer.normalize(reader, writer, ',', null, Type.EMAIL, Type.CELLPHONE)
+	 *
+	 * @param in 입력
+	 * @param out 출력
+	 * @param delimiter 필드 구분자
+	 * @param columnTypes 필드별 값의 종류, null이면 그대로 쓴다.
+	 * @return 유효하지 않은 필드가 있는 행(0부터 시작)의 bitmap, 입출력에 실패하면 null
+	 */
+	public static BitSet normalize(Reader in, Writer out, char delimiter, Type... columnTypes) {
+
+		char[] buffer = new char[READ_BUFFER_SIZE];
+		StringBuilder line = new StringBuilder(256);
+		StringBuilder result = new StringBuilder(256);
+		BitSet invalid = new BitSet();
+		int row = 0;
+
+		try {
+			int read;
+			boolean pending = false;
+
+			while ((read = in.read(buffer)) >= 0) {
+
+				int start = 0;
+
+				for (int i = 0; i < read; i++) {
+					if (buffer[i] == '\n') {
+						line.append(buffer, start, i - start);
+						normalizeLine(line, delimiter, columnTypes, result, invalid, row++);
+						out.append(result);
+						line.setLength(0);
+						start = i + 1;
+					}
+				}
+
+				line.append(buffer, start, read - start);
+				pending = line.length() > 0;
+			}
+
+			if (pending) {
+				normalizeLine(line, delimiter, columnTypes, result, invalid, row);
+				out.append(result);
+			}
+
+			out.flush();
+		} catch (IOException e) {
+			log.error("ContactNormalizer-normalize :: {}", e.getMessage());
+			return null;
+		}
+
+		return invalid;
+	}
+
+	private static void normalizeLine(StringBuilder line, char delimiter, Type[] columnTypes, StringBuilder result, BitSet invalid, int row) {
+
+		int length = line.length();
+
+		if (length > 0 && line.charAt(length - 1) == '\r') {
+			length--;
+		}
+
+		result.setLength(0);
+
+		for (int column = 0, start = 0; start <= length; column++) {
+
+			int end = start;
+
+			while (end < length && line.charAt(end) != delimiter) {
+				end++;
+			}
+
+			if (column > 0) {
+				result.append(delimiter);
+			}
+
+			Type type = column < columnTypes.length ? columnTypes[column] : null;
+
+			if (type == null || start == end) {
+				result.append(line, start, end);
+			} else if (!normalize(type, line, start, end, result)) {
+				result.append(line, start, end);
+				invalid.set(row);
+			}
+
+			start = end + 1;
+		}
+
+		result.append('\n');
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 배치(ETL) 작업을 위해 날짜/시간 문자열 컬럼을 한 번에 변환하는 기능을 제공한다.<br>
+ * 포맷터와 시간대 offset 테이블은 컬럼마다 한 번만 조회하고, 값이 {@value #PARALLEL_THRESHOLD}개 이상이면 병렬로 변환한다.<br>
+ * 고정 길이 포맷(DateUtils.DATE_PATTERN 등)은 FixedDateFormat의 fast path를 사용한다.<br><br>
+ *
+ * null 또는 빈 문자열은 long 컬럼에서는 {@link #NULL_MILLIS}로, 객체 컬럼에서는 null로 변환된다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@UtilityClass
+public final class DateColumns {
+
+	/** 병렬 변환을 시작하는 최소 값 개수 */
+	public static final int PARALLEL_THRESHOLD = Chunks.PARALLEL_THRESHOLD;
+
+	/** null 또는 빈 값을 나타내는 epoch millis */
+	public static final long NULL_MILLIS = Long.MIN_VALUE;
+
+	/**
+	 * 문자열 컬럼을 KST 기준 epoch millis 컬럼으로 변환한다.
+	 *
+	 * @param values 날짜/시간 문자열 컬럼
+	 * @param pattern 날짜/시간 포맷
+	 * @return epoch millis 컬럼
+	 */
+	public static long[] toEpochMillis(String[] values, String pattern) {
+		return toEpochMillis(values, pattern, DateUtils.KST_ZONE);
+	}
+
+	public static long[] toEpochMillis(String[] values, String pattern, ZoneId zone) {
+
+		ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+		DateTimeFormatter formatter = DateUtils.getFormatter(pattern);
+
+		long[] result = new long[values.length];
+
+		setAll(result, i -> {
+			String value = values[i];
+
+			if (value == null || value.isEmpty()) {
+				return NULL_MILLIS;
+			}
+
+			long localMillis = layout != null
+					? FixedDateFormat.parseEpochMillis(value, layout, ZoneOffset.UTC)
+					: parseLocal(value, formatter).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+			return table.toEpochMillis(localMillis);
+		});
+
+		return result;
+	}
+
+	/**
+	 * 하나의 byte[] 버퍼에 담긴 ASCII 컬럼(예: CSV 블록)을 epoch millis 컬럼으로 변환한다. 값마다 String을 만들지 않는다.
+	 *
+	 * @param data 컬럼 데이터가 담긴 버퍼
+	 * @param offsets 각 값의 시작 위치, 음수이면 null 값으로 취급한다.
+	 * @param layout 고정 길이 포맷
+	 * @param zone 시간대
+	 * @return epoch millis 컬럼
+	 */
+	public static long[] toEpochMillis(byte[] data, int[] offsets, FixedDateFormat.Layout layout, ZoneId zone) {
+
+		ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+		long[] result = new long[offsets.length];
+
+		setAll(result, i -> offsets[i] < 0
+				? NULL_MILLIS
+				: table.toEpochMillis(FixedDateFormat.parseEpochMillis(data, offsets[i], layout, ZoneOffset.UTC)));
+
+		return result;
+	}
+
+	public static LocalDate[] toDates(String[] values, String pattern) {
+
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+		DateTimeFormatter formatter = DateUtils.getFormatter(pattern);
+
+		LocalDate[] result = new LocalDate[values.length];
+
+		setAll(result, i -> {
+			String value = values[i];
+
+			if (value == null || value.isEmpty()) {
+				return null;
+			}
+
+			return layout != null ? FixedDateFormat.parseDate(value, layout) : LocalDate.parse(value, formatter);
+		});
+
+		return result;
+	}
+
+	public static LocalDate[] toDates(byte[] data, int[] offsets, FixedDateFormat.Layout layout) {
+
+		LocalDate[] result = new LocalDate[offsets.length];
+
+		setAll(result, i -> offsets[i] < 0 ? null : FixedDateFormat.parseDate(data, offsets[i], layout));
+
+		return result;
+	}
+
+	public static String[] toStrings(long[] epochMillis, String pattern) {
+		return toStrings(epochMillis, pattern, DateUtils.KST_ZONE);
+	}
+
+	/**
+	 * epoch millis 컬럼을 지정한 시간대 기준의 문자열 컬럼으로 변환한다.
+	 *
+	 * @param epochMillis epoch millis 컬럼
+	 * @param pattern 날짜/시간 포맷
+	 * @param zone 시간대
+	 * @return 문자열 컬럼
+	 */
+	public static String[] toStrings(long[] epochMillis, String pattern, ZoneId zone) {
+
+		ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+		DateTimeFormatter formatter = DateUtils.getFormatter(pattern);
+
+		String[] result = new String[epochMillis.length];
+
+		setAll(result, i -> {
+			long millis = epochMillis[i];
+
+			if (millis == NULL_MILLIS) {
+				return null;
+			}
+
+			long localMillis = table.toLocalMillis(millis);
+
+			if (layout != null) {
+				char[] buffer = new char[layout.length()];
+				FixedDateFormat.formatTo(localMillis, ZoneOffset.UTC, layout, buffer, 0);
+				return new String(buffer);
+			}
+
+			return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L),
+					(int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC).format(formatter);
+		});
+
+		return result;
+	}
+
+	public static String[] toStrings(LocalDate[] dates, String pattern) {
+
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+		DateTimeFormatter formatter = DateUtils.getFormatter(pattern);
+
+		String[] result = new String[dates.length];
+
+		setAll(result, i -> {
+			LocalDate date = dates[i];
+
+			if (date == null) {
+				return null;
+			}
+
+			return layout != null ? FixedDateFormat.format(date, layout) : date.format(formatter);
+		});
+
+		return result;
+	}
+
+	/**
+	 * 날짜만 있는 포맷이면 자정으로, 시간이 있는 포맷이면 그대로 LocalDateTime을 만든다.
+	 */
+	private static LocalDateTime parseLocal(String value, DateTimeFormatter formatter) {
+
+		TemporalAccessor parsed = formatter.parse(value);
+		LocalDate date = LocalDate.from(parsed);
+
+		return parsed.isSupported(ChronoField.HOUR_OF_DAY) ? date.atTime(LocalTime.from(parsed)) : date.atStartOfDay();
+	}
+
+	private static void setAll(long[] array, IntToLongFunction generator) {
+
+		if (array.length >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSetAll(array, generator);
+		} else {
+			Arrays.setAll(array, generator);
+		}
+	}
+
+	private static <T> void setAll(T[] array, IntFunction<? extends T> generator) {
+
+		if (array.length >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSetAll(array, generator);
+		} else {
+			Arrays.setAll(array, generator);
+		}
+	}
+}
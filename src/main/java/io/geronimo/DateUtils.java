@@ -20,9 +20,11 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.sql.Timestamp;
 import java.time.*;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.Date;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * JSR-310을 사용하여 날짜, 시간 및 요일 계산, 유효성 체크와 포맷 변경 등의 기능을 제공한다.
@@ -82,13 +84,98 @@ public final class DateUtils {
     /** hour, minute, second pattern (HH:mm:ss) */
     public static final String TIME_HMS_PATTERN_COLONE = "HH:mm:ss";
 
+	/** 한국 표준시(KST) 시간대 */
+	public static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+	/** 한국 표준시(KST) offset */
+	public static final ZoneOffset KST_OFFSET = ZoneOffset.ofHours(9);
+
+	/** 패턴별로 캐시하는 DateTimeFormatter의 최대 개수 */
+	public static final int FORMATTER_CACHE_SIZE = 512;
+
+	private static final ConcurrentMap<Locale, ConcurrentMap<String, DateTimeFormatter>> FORMATTERS = new ConcurrentHashMap<>();
+
+	/** yyyy-MM-dd */
+	public static final DateTimeFormatter DATE_DASH_FORMATTER = getFormatter(DATE_PATTERN_DASH);
+
+	/** yyyy-MM-dd HH:mm:ss */
+	public static final DateTimeFormatter DATE_TIME_FORMATTER = getFormatter(DATE_TIME_PATTERN);
+
+	/** yyyy년MM월dd일 HH시mm분ss초 */
+	public static final DateTimeFormatter KOR_DATE_TIME_FORMATTER = getFormatter(KOR_DATE_TIME_PATTERN);
+
+	/** yyyy년MM월dd일 */
+	public static final DateTimeFormatter KOR_DATE_FORMATTER = getFormatter(KOR_DATE_PATTERN);
+
+	/** yyyyMMddHHmmss */
+	public static final DateTimeFormatter DATE_HMS_FORMATTER = getFormatter(DATE_HMS_PATTERN);
+
+	/** yyyy-MM-dd HH:mm:ss.SSS */
+	public static final DateTimeFormatter TIMESTAMP_FORMATTER = getFormatter(TIMESTAMP_PATTERN);
+
+	/** yyyyMMdd */
+	public static final DateTimeFormatter DATE_FORMATTER = getFormatter(DATE_PATTERN);
+
+	/** HH:mm */
+	public static final DateTimeFormatter TIME_FORMATTER = getFormatter(TIME_PATTERN);
+
+	/** HHmmss */
+	public static final DateTimeFormatter TIME_HMS_FORMATTER = getFormatter(TIME_HMS_PATTERN);
+
+	/** HH:mm:ss */
+	public static final DateTimeFormatter TIME_HMS_COLONE_FORMATTER = getFormatter(TIME_HMS_PATTERN_COLONE);
+
+	/**
+	 * pattern에 해당하는 DateTimeFormatter를 캐시에서 조회하고, 없으면 생성하여 캐시한다.<br>
+	 * DateTimeFormatter는 immutable, thread-safe 하므로 공유해도 안전하다. 기본 FORMAT locale을 사용한다.
+	 *
+	 * @param pattern 날짜 및 시간에 대한 포맷
+	 * @return pattern에 해당하는 DateTimeFormatter
+	 */
+	public static DateTimeFormatter getFormatter(String pattern) {
+		return getFormatter(pattern, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * pattern, locale에 해당하는 DateTimeFormatter를 캐시에서 조회하고, 없으면 생성하여 캐시한다.<br>
+	 * 캐시 크기가 FORMATTER_CACHE_SIZE를 넘으면 더 이상 캐시하지 않고 매번 생성한다.
+	 *
+	 * @param pattern 날짜 및 시간에 대한 포맷
+	 * @param locale 포맷에 사용할 locale
+	 * @return pattern, locale에 해당하는 DateTimeFormatter
+	 */
+	public static DateTimeFormatter getFormatter(String pattern, Locale locale) {
+
+		ConcurrentMap<String, DateTimeFormatter> formatters = FORMATTERS.get(locale);
+
+		if (formatters == null) {
+			formatters = FORMATTERS.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+		}
+
+		DateTimeFormatter formatter = formatters.get(pattern);
+
+		if (formatter != null) {
+			return formatter;
+		}
+
+		formatter = DateTimeFormatter.ofPattern(pattern, locale);
+
+		if (formatters.size() < FORMATTER_CACHE_SIZE) {
+			DateTimeFormatter existing = formatters.putIfAbsent(pattern, formatter);
+			formatter = existing == null ? formatter : existing;
+		}
+
+		return formatter;
+	}
+
 	/**
 	 * 현재 날짜, 시간을 조회하여 문자열 형태로 반환한다.<br>
+	 * 초 단위 문자열은 CachedClock이 초마다 한 번 만들어 두므로 호출 비용이 거의 없다.
 	 *
 	 * @return (yyyy-MM-dd HH:mm:ss) 포맷으로 구성된 현재 날짜와 시간
 	 */
 	public static String now() {
-		return now(DATE_TIME_PATTERN);
+		return CachedClock.now();
 	}
 
 	/**
@@ -101,9 +188,7 @@ public final class DateUtils {
 	 * @return patter 포맷 형태로 구성된 현재 날짜와 시간
 	 */
 	public static String now(String pattern) {
-		LocalDateTime dateTime = LocalDateTime.now();
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-		return dateTime.format(formatter);
+		return toString(LocalDateTime.now(), pattern);
 	}
 
 	/**
@@ -119,10 +204,8 @@ public final class DateUtils {
 	 */
 	public static int getDays(String startDate, String endDate, String pattern) {
 
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-
-		LocalDate localStartDate = LocalDate.parse(startDate, formatter);
-		LocalDate localEndDate = LocalDate.parse(endDate, formatter);
+		LocalDate localStartDate = toDate(startDate, pattern);
+		LocalDate localEndDate = toDate(endDate, pattern);
 
 		return (int) ChronoUnit.DAYS.between(localStartDate, localEndDate);
 	}
@@ -186,8 +269,7 @@ public final class DateUtils {
 	 */
 	public static boolean equals(LocalDate date, String dateStr, String pattern) {
 
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-		LocalDate parsedDate = LocalDate.parse(dateStr, formatter);
+		LocalDate parsedDate = toDate(dateStr, pattern);
 
 		return equals(date, parsedDate);
 	}
@@ -209,7 +291,7 @@ public final class DateUtils {
      * @return year이 윤년이면 true를 그렇지 않으면 false를 반환
      */
     public static boolean isLeapYear(int year) {
-    	return LocalDate.of(year, 1, 1).isLeapYear();
+    	return FixedDateFormat.isLeapYear(year);
     }
     
 	public static LocalDateTime toDateTime(String dateTime, String pattern) {
@@ -219,15 +301,20 @@ public final class DateUtils {
 		}
 
 		if (dateTime.length() == 8) {
-			return DateUtils.toDate(dateTime, "yyyyMMdd").atTime(0, 0, 0);
+			return DateUtils.toDate(dateTime, DATE_PATTERN).atTime(0, 0, 0);
 		}
 
 		if (dateTime.length() == 10) {
 			return DateUtils.toDate(dateTime).atTime(0, 0, 0);
 		}
 
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-		return LocalDateTime.parse(dateTime, formatter);
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+
+		if (layout != null && layout.length() > DATE_PATTERN_DASH.length()) {
+			return FixedDateFormat.parseDateTime(dateTime, layout);
+		}
+
+		return LocalDateTime.parse(dateTime, getFormatter(pattern));
 	}
 
 	public static LocalDateTime toDateTime(String dateTime) {
@@ -235,8 +322,23 @@ public final class DateUtils {
 	}
 
 	public static LocalDateTime toDateTime(long timeMillis) {
-		Date date = new Date(timeMillis);
-		return date.toInstant().atZone(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+		return toDateTime(timeMillis, KST_ZONE);
+	}
+
+	/**
+	 * epoch millis를 지정한 시간대의 LocalDateTime으로 변환한다. offset은 ZoneOffsetTable에서 조회한다.<br><br>
+	 *
+	 * DateUtils.toDateTime(0L, ZoneId.of("America/New_York")) = 1969-12-31T19:00
+	 *
+	 * @param timeMillis epoch millis
+	 * @param zone 시간대
+	 * @return 시간대 기준의 LocalDateTime
+	 */
+	public static LocalDateTime toDateTime(long timeMillis, ZoneId zone) {
+
+		long localMillis = ZoneOffsetTable.of(zone).toLocalMillis(timeMillis);
+
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
 	}
 
 	public static Timestamp toTimestamp(String dateTime, String pattern) {
@@ -252,8 +354,14 @@ public final class DateUtils {
 	}
 
 	public static LocalDate toDate(String date, String pattern) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-		return LocalDate.parse(date, formatter);
+
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+
+		if (layout != null) {
+			return FixedDateFormat.parseDate(date, layout);
+		}
+
+		return LocalDate.parse(date, getFormatter(pattern));
 	}
 
 	public static LocalDate toDate(String date) {
@@ -261,38 +369,45 @@ public final class DateUtils {
 	}
 
 	public static String toString(LocalDateTime dateTime, String pattern) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-		return dateTime.format(formatter);
+
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+
+		if (layout != null) {
+			return FixedDateFormat.format(dateTime, layout);
+		}
+
+		return dateTime.format(getFormatter(pattern));
 	}
 
 	public static String toString(LocalDateTime dateTime) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
-		return dateTime.format(formatter);
+		return FixedDateFormat.format(dateTime, FixedDateFormat.Layout.DATE_TIME);
 	}
 
 	public static String toString(LocalDate date, String pattern) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-		return date.format(formatter);
+
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+
+		if (layout != null && layout.length() <= DATE_PATTERN_DASH.length()) {
+			return FixedDateFormat.format(date, layout);
+		}
+
+		return date.format(getFormatter(pattern));
 	}
 
 	public static String toString(LocalDate date) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(DATE_PATTERN_DASH);
-		return date.format(formatter);
+		return FixedDateFormat.format(date, FixedDateFormat.Layout.DATE_DASH);
 	}
 
 	public static String toString(LocalTime time, String pattern) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(pattern);
-		return time.format(formatter);
+		return time.format(getFormatter(pattern));
 	}
 
 	public static String toString(LocalTime time) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(TIME_HMS_PATTERN_COLONE);
-		return time.format(formatter);
+		return time.format(TIME_HMS_COLONE_FORMATTER);
 	}
 
 	public static String toStrKorDateTime(LocalDateTime dateTime) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(KOR_DATE_TIME_PATTERN);
-		return dateTime.format(formatter);
+		return dateTime.format(KOR_DATE_TIME_FORMATTER);
 	}
 
 	public static String toStrKorDateTime(String dateTimeStr) {
@@ -301,13 +416,11 @@ public final class DateUtils {
 
 	public static String toStrKorDateTime(String dateTimeStr, String pattern) {
 		LocalDateTime dateTime = toDateTime(dateTimeStr, pattern);
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(KOR_DATE_TIME_PATTERN);
-		return dateTime.format(formatter);
+		return dateTime.format(KOR_DATE_TIME_FORMATTER);
 	}
 
 	public static String toStrKorDate(LocalDateTime dateTime) {
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(KOR_DATE_PATTERN);
-		return dateTime.format(formatter);
+		return dateTime.format(KOR_DATE_FORMATTER);
 	}
 
 	public static String toStrKorDate(String dateStr) {
@@ -316,13 +429,63 @@ public final class DateUtils {
 
 	public static String toStrKorDate(String dateStr, String pattern) {
 		LocalDateTime dateTime = toDateTime(dateStr, pattern);
-		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(KOR_DATE_PATTERN);
-		return dateTime.format(formatter);
+		return dateTime.format(KOR_DATE_FORMATTER);
 	}
 
 	public static long toTimeMillis(LocalDateTime dateTime) {
-		ZonedDateTime zdt = dateTime.atZone(ZoneId.of("Asia/Seoul"));
-		return zdt.toInstant().toEpochMilli();
+		return toTimeMillis(dateTime, KST_ZONE);
+	}
+
+	/**
+	 * 지정한 시간대의 LocalDateTime을 epoch millis로 변환한다. 일광절약시간의 gap, overlap 구간은 ZonedDateTime과 같게 처리한다.
+	 *
+	 * @param dateTime 시간대 기준의 일시
+	 * @param zone 시간대
+	 * @return epoch millis
+	 */
+	public static long toTimeMillis(LocalDateTime dateTime, ZoneId zone) {
+
+		long localMillis = dateTime.toEpochSecond(ZoneOffset.UTC) * 1000L + dateTime.getNano() / 1_000_000;
+
+		return ZoneOffsetTable.of(zone).toEpochMillis(localMillis);
+	}
+
+	/**
+	 * 한 시간대의 일시를 다른 시간대의 일시로 변환한다.<br><br>
+	 *
+	 * DateUtils.convert(LocalDateTime.of(2017, 1, 1, 9, 0), DateUtils.KST_ZONE, ZoneOffset.UTC) = 2017-01-01T00:00
+	 *
+	 * @param dateTime 원본 시간대 기준의 일시
+	 * @param from 원본 시간대
+	 * @param to 대상 시간대
+	 * @return 대상 시간대 기준의 일시
+	 */
+	public static LocalDateTime convert(LocalDateTime dateTime, ZoneId from, ZoneId to) {
+		return toDateTime(toTimeMillis(dateTime, from), to);
+	}
+
+	/**
+	 * epoch millis를 KST 기준의 문자열로 변환한다.
+	 *
+	 * @param timeMillis epoch millis
+	 * @param pattern 날짜/시간 포맷
+	 * @return 포맷된 문자열
+	 */
+	public static String toString(long timeMillis, String pattern) {
+		return toString(timeMillis, pattern, KST_ZONE);
+	}
+
+	public static String toString(long timeMillis, String pattern, ZoneId zone) {
+
+		FixedDateFormat.Layout layout = FixedDateFormat.Layout.of(pattern);
+
+		if (layout != null) {
+			char[] buffer = new char[layout.length()];
+			FixedDateFormat.formatTo(ZoneOffsetTable.of(zone).toLocalMillis(timeMillis), ZoneOffset.UTC, layout, buffer, 0);
+			return new String(buffer);
+		}
+
+		return toDateTime(timeMillis, zone).format(getFormatter(pattern));
 	}
 
 	public static String dateFormatFromLocale(Locale locale) {
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * DateUtils에서 사용하는 고정 길이 날짜/시간 포맷(yyyyMMdd, yyyy-MM-dd, yyyy-MM-dd HH:mm:ss, yyyyMMddHHmmss,
+ * yyyy-MM-dd HH:mm:ss.SSS)을 DateTimeFormatter를 거치지 않고 직접 파싱, 포맷팅한다.<br>
+ * 입력 문자(CharSequence, ASCII byte[])에서 숫자를 바로 읽으므로 중간 객체를 만들지 않는다.<br>
+ * 값이 정상 범위를 벗어나는 경우에는 DateTimeFormatter로 위임하여 기존과 같은 결과(또는 예외)를 반환한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@UtilityClass
+public final class FixedDateFormat {
+
+	/**
+	 * 고정 길이 포맷
+	 */
+	public enum Layout {
+
+		DATE(DateUtils.DATE_PATTERN),
+		DATE_DASH(DateUtils.DATE_PATTERN_DASH),
+		DATE_HMS(DateUtils.DATE_HMS_PATTERN),
+		DATE_TIME(DateUtils.DATE_TIME_PATTERN),
+		TIMESTAMP(DateUtils.TIMESTAMP_PATTERN);
+
+		private final String pattern;
+
+		private final char[] chars;
+
+		Layout(String pattern) {
+			this.pattern = pattern;
+			this.chars = pattern.toCharArray();
+		}
+
+		public String getPattern() {
+			return pattern;
+		}
+
+		public int length() {
+			return chars.length;
+		}
+
+		/**
+		 * pattern에 해당하는 고정 길이 포맷을 반환한다.
+		 *
+		 * @param pattern 날짜 포맷
+		 * @return 고정 길이 포맷, 지원하지 않는 pattern이면 null
+		 */
+		public static Layout of(String pattern) {
+
+			if (pattern == null) {
+				return null;
+			}
+
+			switch (pattern) {
+				case DateUtils.DATE_PATTERN:
+					return DATE;
+				case DateUtils.DATE_PATTERN_DASH:
+					return DATE_DASH;
+				case DateUtils.DATE_HMS_PATTERN:
+					return DATE_HMS;
+				case DateUtils.DATE_TIME_PATTERN:
+					return DATE_TIME;
+				case DateUtils.TIMESTAMP_PATTERN:
+					return TIMESTAMP;
+				default:
+					return null;
+			}
+		}
+	}
+
+	private static final long INVALID = -1L;
+
+	private static final int MILLIS_PER_DAY = 86_400_000;
+
+	private static final int DAYS_0000_TO_1970 = 719_528;
+
+	/** 0000-01-01의 epoch day */
+	static final long MIN_EPOCH_DAY = -DAYS_0000_TO_1970;
+
+	/** 0001-01-01의 epoch day. yyyy는 year-of-era이므로 그 이전은 DateTimeFormatter로 처리한다. */
+	private static final long MIN_YEAR_OF_ERA_EPOCH_DAY = MIN_EPOCH_DAY + 366;
+
+	/** 9999-12-31의 epoch day */
+	static final long MAX_EPOCH_DAY = 2_932_896L;
+
+	public static LocalDate parseDate(CharSequence text, Layout layout) {
+
+		long fields = text.length() == layout.length() ? scan(text, null, 0, layout) : INVALID;
+
+		if (fields == INVALID) {
+			return LocalDate.parse(text, DateUtils.getFormatter(layout.pattern));
+		}
+
+		return LocalDate.of(year(fields), month(fields), day(fields));
+	}
+
+	public static LocalDate parseDate(byte[] bytes, int offset, Layout layout) {
+
+		long fields = scan(null, bytes, offset, layout);
+
+		if (fields == INVALID) {
+			return LocalDate.parse(ascii(bytes, offset, layout), DateUtils.getFormatter(layout.pattern));
+		}
+
+		return LocalDate.of(year(fields), month(fields), day(fields));
+	}
+
+	public static LocalDateTime parseDateTime(CharSequence text, Layout layout) {
+
+		long fields = text.length() == layout.length() ? scan(text, null, 0, layout) : INVALID;
+
+		if (fields == INVALID) {
+			return parseDateTimeFallback(text, layout);
+		}
+
+		return toLocalDateTime(fields);
+	}
+
+	public static LocalDateTime parseDateTime(byte[] bytes, int offset, Layout layout) {
+
+		long fields = scan(null, bytes, offset, layout);
+
+		if (fields == INVALID) {
+			return parseDateTimeFallback(ascii(bytes, offset, layout), layout);
+		}
+
+		return toLocalDateTime(fields);
+	}
+
+	/**
+	 * 고정 길이 문자열을 객체 생성 없이 epoch millis로 변환한다.
+	 *
+	 * @param text 날짜/시간 문자열
+	 * @param layout 고정 길이 포맷
+	 * @param zoneOffset 적용할 offset (예: DateUtils.KST_OFFSET)
+	 * @return epoch millis
+	 */
+	public static long parseEpochMillis(CharSequence text, Layout layout, ZoneOffset zoneOffset) {
+
+		long fields = text.length() == layout.length() ? scan(text, null, 0, layout) : INVALID;
+
+		if (fields == INVALID) {
+			return parseDateTimeFallback(text, layout).toInstant(zoneOffset).toEpochMilli();
+		}
+
+		return epochMillis(fields, zoneOffset.getTotalSeconds());
+	}
+
+	public static long parseEpochMillis(byte[] bytes, int offset, Layout layout, ZoneOffset zoneOffset) {
+
+		long fields = scan(null, bytes, offset, layout);
+
+		if (fields == INVALID) {
+			return parseDateTimeFallback(ascii(bytes, offset, layout), layout).toInstant(zoneOffset).toEpochMilli();
+		}
+
+		return epochMillis(fields, zoneOffset.getTotalSeconds());
+	}
+
+	public static String format(LocalDate date, Layout layout) {
+
+		if (date.getYear() < 1 || date.getYear() > 9999) {
+			return date.format(DateUtils.getFormatter(layout.pattern));
+		}
+
+		char[] buffer = new char[layout.length()];
+		write(buffer, layout, date.getYear(), date.getMonthValue(), date.getDayOfMonth(), 0, 0, 0, 0);
+
+		return new String(buffer);
+	}
+
+	public static String format(LocalDateTime dateTime, Layout layout) {
+
+		if (dateTime.getYear() < 1 || dateTime.getYear() > 9999) {
+			return dateTime.format(DateUtils.getFormatter(layout.pattern));
+		}
+
+		char[] buffer = new char[layout.length()];
+		write(buffer, layout, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+				dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano() / 1_000_000);
+
+		return new String(buffer);
+	}
+
+	/**
+	 * epoch millis를 지정한 offset 기준의 고정 길이 문자열로 변환하여 buffer에 기록한다. 별도의 객체를 만들지 않는다.
+	 *
+	 * @param epochMillis epoch millis
+	 * @param zoneOffset 적용할 offset
+	 * @param layout 고정 길이 포맷
+	 * @param buffer 기록 대상, offset부터 layout.length() 만큼 기록된다.
+	 * @param offset buffer의 시작 위치
+	 */
+	public static void formatTo(long epochMillis, ZoneOffset zoneOffset, Layout layout, char[] buffer, int offset) {
+
+		long localMillis = epochMillis + zoneOffset.getTotalSeconds() * 1000L;
+		long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+		int millisOfDay = (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+
+		if (epochDay > MAX_EPOCH_DAY) {
+			throw new DateTimeException("Year out of range for " + layout.pattern + ": " + LocalDate.ofEpochDay(epochDay).getYear());
+		}
+
+		if (epochDay < MIN_YEAR_OF_ERA_EPOCH_DAY) {
+			String text = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000), (int) Math.floorMod(localMillis, 1000) * 1_000_000, ZoneOffset.UTC)
+					.format(DateUtils.getFormatter(layout.pattern));
+
+			if (text.length() != layout.length()) {
+				throw new DateTimeException("Year out of range for " + layout.pattern + ": " + LocalDate.ofEpochDay(epochDay).getYear());
+			}
+			text.getChars(0, text.length(), buffer, offset);
+			return;
+		}
+
+		int packed = packedDate(epochDay);
+		int year = packed / 10_000;
+		int month = packed / 100 % 100;
+		int day = packed % 100;
+
+		int secondOfDay = millisOfDay / 1000;
+		write(buffer, offset, layout, year, month, day, secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60, millisOfDay % 1000);
+	}
+
+	/**
+	 * 입력 문자를 layout에 맞춰 한 번 읽으며 각 필드를 long 하나에 담아 반환한다. layout과 맞지 않거나 범위를 벗어나면 INVALID.
+	 */
+	private static long scan(CharSequence text, byte[] bytes, int offset, Layout layout) {
+
+		char[] chars = layout.chars;
+
+		if (bytes != null && bytes.length - offset < chars.length) {
+			return INVALID;
+		}
+
+		int year = 0;
+		int month = 0;
+		int day = 0;
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		int milli = 0;
+
+		for (int i = 0; i < chars.length; i++) {
+
+			char c = bytes != null ? (char) (bytes[offset + i] & 0xFF) : text.charAt(i);
+			char p = chars[i];
+			int digit = c - '0';
+
+			if (p < 'A') {
+				if (c != p) {
+					return INVALID;
+				}
+				continue;
+			}
+
+			if (digit < 0 || digit > 9) {
+				return INVALID;
+			}
+
+			switch (p) {
+				case 'y':
+					year = year * 10 + digit;
+					break;
+				case 'M':
+					month = month * 10 + digit;
+					break;
+				case 'd':
+					day = day * 10 + digit;
+					break;
+				case 'H':
+					hour = hour * 10 + digit;
+					break;
+				case 'm':
+					minute = minute * 10 + digit;
+					break;
+				case 's':
+					second = second * 10 + digit;
+					break;
+				default:
+					milli = milli * 10 + digit;
+			}
+		}
+
+		// yyyy는 year-of-era이므로 0000년은 DateTimeFormatter가 판단한다.
+		if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+				|| hour > 23 || minute > 59 || second > 59) {
+			return INVALID;
+		}
+
+		return ((long) year << 36) | ((long) month << 32) | ((long) day << 27)
+				| ((long) hour << 22) | ((long) minute << 16) | ((long) second << 10) | milli;
+	}
+
+	private static int year(long fields) {
+		return (int) (fields >>> 36);
+	}
+
+	private static int month(long fields) {
+		return (int) (fields >>> 32) & 0xF;
+	}
+
+	private static int day(long fields) {
+		return (int) (fields >>> 27) & 0x1F;
+	}
+
+	private static LocalDateTime toLocalDateTime(long fields) {
+		return LocalDateTime.of(year(fields), month(fields), day(fields),
+				(int) (fields >>> 22) & 0x1F, (int) (fields >>> 16) & 0x3F, (int) (fields >>> 10) & 0x3F,
+				((int) fields & 0x3FF) * 1_000_000);
+	}
+
+	private static long epochMillis(long fields, int offsetSeconds) {
+
+		long secondOfDay = ((fields >>> 22) & 0x1F) * 3600 + ((fields >>> 16) & 0x3F) * 60 + ((fields >>> 10) & 0x3F);
+
+		return (epochDay(year(fields), month(fields), day(fields)) * 86_400 + secondOfDay - offsetSeconds) * 1000
+				+ (fields & 0x3FF);
+	}
+
+	/**
+	 * days-from-civil (Howard Hinnant). LocalDate.toEpochDay와 같은 값을 객체 생성 없이 계산한다.
+	 */
+	static long epochDay(int year, int month, int day) {
+
+		int y = month <= 2 ? year - 1 : year;
+		int era = Math.floorDiv(y, 400);
+		int yoe = y - era * 400;
+		int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+
+		return era * 146_097L + doe - DAYS_0000_TO_1970 + 60;
+	}
+
+	/**
+	 * epoch day를 yyyyMMdd 형태의 정수로 변환한다. (civil-from-days, Howard Hinnant)
+	 */
+	static int packedDate(long epochDay) {
+
+		long z = epochDay + DAYS_0000_TO_1970 - 60;
+		long era = Math.floorDiv(z, 146_097);
+		int doe = (int) (z - era * 146_097);
+		int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146_096) / 365;
+		int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		int mp = (5 * doy + 2) / 153;
+		int day = doy - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+
+		return year * 10_000 + month * 100 + day;
+	}
+
+	static int lengthOfMonth(int year, int month) {
+
+		switch (month) {
+			case 2:
+				return isLeapYear(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	private static void write(char[] buffer, Layout layout, int year, int month, int day, int hour, int minute, int second, int milli) {
+		write(buffer, 0, layout, year, month, day, hour, minute, second, milli);
+	}
+
+	private static void write(char[] buffer, int offset, Layout layout, int year, int month, int day,
+							  int hour, int minute, int second, int milli) {
+
+		char[] chars = layout.chars;
+
+		// 같은 필드 문자가 연속된 구간을 뒤에서부터 채운다.
+		for (int i = chars.length - 1; i >= 0; i--) {
+
+			char p = chars[i];
+			int value;
+
+			switch (p) {
+				case 'y':
+					value = year;
+					year /= 10;
+					break;
+				case 'M':
+					value = month;
+					month /= 10;
+					break;
+				case 'd':
+					value = day;
+					day /= 10;
+					break;
+				case 'H':
+					value = hour;
+					hour /= 10;
+					break;
+				case 'm':
+					value = minute;
+					minute /= 10;
+					break;
+				case 's':
+					value = second;
+					second /= 10;
+					break;
+				case 'S':
+					value = milli;
+					milli /= 10;
+					break;
+				default:
+					buffer[offset + i] = p;
+					continue;
+			}
+
+			buffer[offset + i] = (char) ('0' + value % 10);
+		}
+	}
+
+	private static LocalDateTime parseDateTimeFallback(CharSequence text, Layout layout) {
+
+		if (layout == Layout.DATE || layout == Layout.DATE_DASH) {
+			return LocalDate.parse(text, DateUtils.getFormatter(layout.pattern)).atStartOfDay();
+		}
+
+		return LocalDateTime.parse(text, DateUtils.getFormatter(layout.pattern));
+	}
+
+	private static String ascii(byte[] bytes, int offset, Layout layout) {
+		return new String(bytes, offset, Math.min(layout.length(), bytes.length - offset), StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,50 @@
+package io.geronimo;
+
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * JsonUtils.toBytes, fromBytes에서 사용하는 직렬화 포맷.<br>
+ * SMILE, CBOR는 JSON과 같은 데이터 모델의 binary 인코딩으로, 동일한 mapper 설정(JavaTimeModule 포함)이 그대로 적용된다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+public enum JsonFormat {
+
+    JSON,
+    SMILE,
+    CBOR;
+
+    /** 기본 포맷을 지정하는 system property 이름 */
+    public static final String FORMAT_PROPERTY = "geronimo.json.format";
+
+    JsonFactory newFactory() {
+
+        switch (this) {
+            case SMILE:
+                return new SmileFactory();
+            case CBOR:
+                return new CBORFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+
+    static JsonFormat fromProperty() {
+
+        String format = System.getProperty(FORMAT_PROPERTY);
+
+        if (format == null || format.trim().isEmpty()) {
+            return JSON;
+        }
+
+        try {
+            return valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return JSON;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.geronimo;
+
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * NDJSON(JSON Lines) 형식으로 객체를 한 줄에 하나씩 기록하는 버퍼링 writer.<br>
+ * 인스턴스는 {@link JsonUtils#newJsonLinesWriter(OutputStream)}로 생성하며 thread-safe 하지 않다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+public class JsonLinesWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectWriter writer;
+
+    private final JsonGenerator generator;
+
+    JsonLinesWriter(ObjectWriter writer, OutputStream out) throws IOException {
+        this.writer = writer;
+        this.generator = writer.getFactory().createGenerator(new BufferedOutputStream(out, BUFFER_SIZE), JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    public void write(Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,22 @@
+package io.geronimo;
+
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JsonUtils가 reflection 대신 생성된 accessor 클래스로 binding 할 DTO에 지정한다.<br>
+ * 지정된 타입의 serializer, deserializer를 처음 만들 때 field, getter, setter를 직접 호출하는 bytecode를 생성하며,
+ * 지정하지 않은 타입은 기존 reflection 방식 그대로 binding 된다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonOptimized {
+}
@@ -0,0 +1,56 @@
+package io.geronimo;
+
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.afterburner.deser.DeserializerModifier;
+import com.fasterxml.jackson.module.afterburner.ser.SerializerModifier;
+
+import java.util.List;
+
+/**
+ * {@link JsonOptimized}가 지정된 타입에만 Afterburner의 accessor 생성을 적용하는 module.<br>
+ * 그 외 타입의 serializer, deserializer는 변경하지 않는다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+final class JsonOptimizedModule extends AfterburnerModule {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void setupModule(SetupContext context) {
+
+        ClassLoader classLoader = _cfgUseValueClassLoader ? null : getClass().getClassLoader();
+
+        context.addBeanSerializerModifier(new SerializerModifier(classLoader) {
+
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                return isOptimized(beanDesc) ? super.changeProperties(config, beanDesc, beanProperties) : beanProperties;
+            }
+        });
+
+        context.addBeanDeserializerModifier(new DeserializerModifier(classLoader, _cfgUseOptimizedBeanDeserializer) {
+
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+                return isOptimized(beanDesc) ? super.updateBuilder(config, beanDesc, builder) : builder;
+            }
+        });
+    }
+
+    @Override
+    public String getModuleName() {
+        return "JsonOptimizedModule";
+    }
+
+    private static boolean isOptimized(BeanDescription beanDesc) {
+        return beanDesc.getBeanClass().isAnnotationPresent(JsonOptimized.class);
+    }
+}
@@ -0,0 +1,270 @@
+package io.geronimo;
+
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Merge Patch(RFC 7386)와 JSON Patch(RFC 6902)를 JsonNode에 적용한다.<br>
+ * 원본은 변경하지 않으며, 변경된 경로의 컨테이너만 얕은 복사하고 나머지 하위 트리는 원본과 공유한다.<br>
+ * 따라서 결과 노드는 읽기 전용으로 다뤄야 한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+final class JsonPatch {
+
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    /** RFC 6902 4.6: 숫자는 표현(1, 1.0)과 관계없이 값이 같으면 같은 것으로 본다. */
+    private static final Comparator<JsonNode> VALUE_COMPARATOR = (o1, o2) -> {
+        if (o1.isNumber() && o2.isNumber()) {
+            return o1.decimalValue().compareTo(o2.decimalValue());
+        }
+        return o1.equals(o2) ? 0 : 1;
+    };
+
+    private JsonPatch() {
+    }
+
+    static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+
+        if (patch == null || !patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode source = target != null && target.isObject() ? (ObjectNode) target : FACTORY.objectNode();
+        ObjectNode result = null;
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+
+        while (fields.hasNext()) {
+
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+
+            if (value.isNull()) {
+                if (source.has(name)) {
+                    result = result == null ? copy(source) : result;
+                    result.remove(name);
+                }
+                continue;
+            }
+
+            JsonNode existing = source.get(name);
+            JsonNode merged = mergePatch(existing, value);
+
+            if (merged != existing) {
+                result = result == null ? copy(source) : result;
+                result.set(name, merged);
+            }
+        }
+
+        return result == null ? source : result;
+    }
+
+    static JsonNode applyPatch(JsonNode target, JsonNode patch) {
+
+        if (patch == null || !patch.isArray()) {
+            throw new IllegalArgumentException("JSON Patch must be an array of operations");
+        }
+
+        JsonNode result = target;
+
+        for (JsonNode operation : patch) {
+
+            String op = required(operation, "op").asText();
+            List<String> path = parsePointer(required(operation, "path").asText());
+
+            switch (op) {
+                case "add":
+                    result = update(result, path, 0, Operation.ADD, required(operation, "value"));
+                    break;
+                case "remove":
+                    result = update(result, path, 0, Operation.REMOVE, null);
+                    break;
+                case "replace":
+                    result = update(result, path, 0, Operation.REPLACE, required(operation, "value"));
+                    break;
+                case "move": {
+                    List<String> from = parsePointer(required(operation, "from").asText());
+                    if (path.size() > from.size() && path.subList(0, from.size()).equals(from)) {
+                        throw new IllegalArgumentException("Cannot move a value into one of its children: " + operation);
+                    }
+                    JsonNode value = get(result, from);
+                    result = update(result, from, 0, Operation.REMOVE, null);
+                    result = update(result, path, 0, Operation.ADD, value);
+                    break;
+                }
+                case "copy":
+                    result = update(result, path, 0, Operation.ADD, get(result, parsePointer(required(operation, "from").asText())));
+                    break;
+                case "test":
+                    if (!get(result, path).equals(VALUE_COMPARATOR, required(operation, "value"))) {
+                        throw new IllegalArgumentException("Test operation failed: " + operation);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown operation: " + op);
+            }
+        }
+
+        return result;
+    }
+
+    private enum Operation { ADD, REMOVE, REPLACE }
+
+    /**
+     * path를 따라 내려가며 거치는 컨테이너만 복사하고 마지막 토큰에서 연산을 수행한다.
+     */
+    private static JsonNode update(JsonNode node, List<String> path, int depth, Operation operation, JsonNode value) {
+
+        if (path.size() == depth) {
+            if (operation == Operation.REMOVE) {
+                throw new IllegalArgumentException("Cannot remove the root document");
+            }
+            return value;
+        }
+
+        String token = path.get(depth);
+        boolean last = depth == path.size() - 1;
+
+        if (node != null && node.isObject()) {
+
+            ObjectNode object = (ObjectNode) node;
+            JsonNode child = object.get(token);
+
+            if (child == null && (!last || operation != Operation.ADD)) {
+                throw new IllegalArgumentException("No such member '" + token + "'");
+            }
+
+            ObjectNode result = copy(object);
+
+            if (last && operation == Operation.REMOVE) {
+                result.remove(token);
+            } else {
+                result.set(token, last ? value : update(child, path, depth + 1, operation, value));
+            }
+            return result;
+        }
+
+        if (node != null && node.isArray()) {
+
+            ArrayNode array = (ArrayNode) node;
+            int index = last && operation == Operation.ADD && "-".equals(token) ? array.size() : parseIndex(token);
+            int limit = last && operation == Operation.ADD ? array.size() : array.size() - 1;
+
+            if (index > limit) {
+                throw new IllegalArgumentException("Array index " + index + " out of bounds");
+            }
+
+            ArrayNode result = copy(array);
+
+            if (!last) {
+                result.set(index, update(array.get(index), path, depth + 1, operation, value));
+            } else if (operation == Operation.ADD) {
+                result.insert(index, value);
+            } else if (operation == Operation.REMOVE) {
+                result.remove(index);
+            } else {
+                result.set(index, value);
+            }
+            return result;
+        }
+
+        throw new IllegalArgumentException("Cannot resolve '" + token + "' on a non-container value");
+    }
+
+    private static JsonNode get(JsonNode node, List<String> path) {
+
+        JsonNode current = node;
+
+        for (String token : path) {
+
+            if (current != null && current.isArray()) {
+                current = current.get(parseIndex(token));
+            } else {
+                current = current == null ? null : current.get(token);
+            }
+
+            if (current == null) {
+                throw new IllegalArgumentException("No value at path " + path);
+            }
+        }
+
+        return current;
+    }
+
+    private static List<String> parsePointer(String pointer) {
+
+        List<String> tokens = new ArrayList<>();
+
+        if (pointer.isEmpty()) {
+            return tokens;
+        }
+
+        if (pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("Invalid JSON Pointer: " + pointer);
+        }
+
+        int start = 1;
+
+        while (true) {
+            int end = pointer.indexOf('/', start);
+            String token = pointer.substring(start, end < 0 ? pointer.length() : end);
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+
+            if (end < 0) {
+                return tokens;
+            }
+            start = end + 1;
+        }
+    }
+
+    private static int parseIndex(String token) {
+
+        if (token.isEmpty() || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0')) {
+            throw new IllegalArgumentException("Invalid array index '" + token + "'");
+        }
+
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                throw new IllegalArgumentException("Invalid array index '" + token + "'");
+            }
+        }
+
+        return Integer.parseInt(token);
+    }
+
+    private static JsonNode required(JsonNode operation, String name) {
+
+        JsonNode value = operation.get(name);
+
+        if (value == null) {
+            throw new IllegalArgumentException("Missing '" + name + "' in operation: " + operation);
+        }
+
+        return value;
+    }
+
+    private static ObjectNode copy(ObjectNode source) {
+        ObjectNode copy = FACTORY.objectNode();
+        copy.setAll(source);
+        return copy;
+    }
+
+    private static ArrayNode copy(ArrayNode source) {
+        ArrayNode copy = FACTORY.arrayNode();
+        copy.addAll(source);
+        return copy;
+    }
+}
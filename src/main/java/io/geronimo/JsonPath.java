@@ -0,0 +1,200 @@
+package io.geronimo;
+
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonUtils.extract에서 사용하는 단순 JSON path("$.a.b[3].c", "$['a b'][0]").<br>
+ * 필드명과 배열 index로만 구성되며 wildcard, filter는 지원하지 않는다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+final class JsonPath {
+
+    private final String expression;
+
+    /** 필드명은 String, 배열 index는 Integer */
+    private final Object[] segments;
+
+    private JsonPath(String expression, Object[] segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    static JsonPath compile(String expression) {
+
+        if (expression == null) {
+            throw new IllegalArgumentException("The path must not be null");
+        }
+
+        String path = expression.startsWith("$") ? expression.substring(1) : expression;
+
+        if (!path.isEmpty() && path.charAt(0) != '.' && path.charAt(0) != '[') {
+            path = "." + path;
+        }
+
+        List<Object> segments = new ArrayList<>();
+        int length = path.length();
+        int i = 0;
+
+        while (i < length) {
+
+            char c = path.charAt(i);
+
+            if (c == '.') {
+                int start = ++i;
+
+                while (i < length && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+
+                if (i == start) {
+                    throw new IllegalArgumentException("Empty field name in path: " + expression);
+                }
+                segments.add(path.substring(start, i));
+
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in path: " + expression);
+                }
+
+                String token = path.substring(i + 1, end).trim();
+
+                if (token.length() >= 2 && (token.charAt(0) == '\'' || token.charAt(0) == '"')
+                        && token.charAt(token.length() - 1) == token.charAt(0)) {
+                    segments.add(token.substring(1, token.length() - 1));
+                } else {
+                    try {
+                        segments.add(Integer.valueOf(token));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid index '" + token + "' in path: " + expression);
+                    }
+                }
+                i = end + 1;
+
+            } else {
+                throw new IllegalArgumentException("Unexpected '" + c + "' in path: " + expression);
+            }
+        }
+
+        return new JsonPath(expression, segments.toArray());
+    }
+
+    /**
+     * parser의 토큰을 순서대로 읽으면서 필요 없는 하위 트리는 건너뛰고, 모든 path가 결정되면 즉시 읽기를 멈춘다.
+     *
+     * @return path 표현식을 key로 하는 결과, 존재하지 않는 path는 포함되지 않는다.
+     */
+    static Map<String, JsonNode> extract(ObjectMapper mapper, JsonParser parser, List<JsonPath> paths) throws IOException {
+
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+
+        if (parser.nextToken() != null) {
+            walk(mapper, parser, paths, 0, result, new int[] { paths.size() });
+        }
+
+        return result;
+    }
+
+    /**
+     * parser가 값의 첫 토큰에 위치한 상태에서 호출된다. 모든 path가 결정되었으면 true를 반환한다.
+     */
+    private static boolean walk(ObjectMapper mapper, JsonParser parser, List<JsonPath> candidates, int depth,
+                                Map<String, JsonNode> result, int[] remaining) throws IOException {
+
+        boolean complete = false;
+
+        for (JsonPath path : candidates) {
+            if (path.segments.length == depth) {
+                complete = true;
+                break;
+            }
+        }
+
+        // 값 전체가 필요한 path가 있으면 이 값만 트리로 만들고 더 깊은 path는 트리에서 찾는다.
+        if (complete) {
+            JsonNode node = mapper.readTree(parser);
+
+            for (JsonPath path : candidates) {
+                JsonNode found = path.resolve(node, depth);
+
+                if (found != null && result.put(path.expression, found) == null) {
+                    remaining[0]--;
+                }
+            }
+            return remaining[0] <= 0;
+        }
+
+        JsonToken token = parser.getCurrentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+                String name = parser.getCurrentName();
+                parser.nextToken();
+
+                List<JsonPath> matched = match(candidates, depth, name);
+
+                if (matched.isEmpty()) {
+                    parser.skipChildren();
+                } else if (walk(mapper, parser, matched, depth + 1, result, remaining)) {
+                    return true;
+                }
+            }
+
+        } else if (token == JsonToken.START_ARRAY) {
+
+            int index = 0;
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+
+                List<JsonPath> matched = match(candidates, depth, index++);
+
+                if (matched.isEmpty()) {
+                    parser.skipChildren();
+                } else if (walk(mapper, parser, matched, depth + 1, result, remaining)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static List<JsonPath> match(List<JsonPath> candidates, int depth, Object segment) {
+
+        List<JsonPath> matched = new ArrayList<>(candidates.size());
+
+        for (JsonPath path : candidates) {
+            if (path.segments[depth].equals(segment)) {
+                matched.add(path);
+            }
+        }
+
+        return matched;
+    }
+
+    private JsonNode resolve(JsonNode node, int from) {
+
+        JsonNode current = node;
+
+        for (int i = from; i < segments.length && current != null; i++) {
+            current = segments[i] instanceof Integer ? current.get((Integer) segments[i]) : current.get((String) segments[i]);
+        }
+
+        return current;
+    }
+}
@@ -0,0 +1,463 @@
+package io.geronimo;
+
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 한 번 컴파일하여 재사용하는 JSON Schema validator.<br>
+ * 입력 JSON을 트리로 만들지 않고 토큰을 한 번만 읽으면서 모든 keyword를 함께 검사한다.<br><br>
+ *
+ * 지원 keyword : type, enum, const, properties, required, additionalProperties, minProperties, maxProperties,
+ * items, minItems, maxItems, minLength, maxLength, pattern, minimum, maximum, exclusiveMinimum, exclusiveMaximum.<br>
+ * 그 외 keyword($ref, allOf, anyOf, oneOf, not 등)는 무시한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+public final class JsonSchema {
+
+    private static final int TYPE_OBJECT = 1;
+    private static final int TYPE_ARRAY = 1 << 1;
+    private static final int TYPE_STRING = 1 << 2;
+    private static final int TYPE_INTEGER = 1 << 3;
+    private static final int TYPE_NUMBER = 1 << 4;
+    private static final int TYPE_BOOLEAN = 1 << 5;
+    private static final int TYPE_NULL = 1 << 6;
+    private static final int TYPE_ANY = (1 << 7) - 1;
+
+    private static final String[] TYPE_NAMES = { "object", "array", "string", "integer", "number", "boolean", "null" };
+
+    /** additionalProperties: false */
+    private static final JsonSchema DISALLOWED = new JsonSchema(null);
+
+    private final String id;
+
+    private int types = TYPE_ANY;
+
+    private Set<JsonNode> enumValues;
+
+    private Map<String, JsonSchema> properties;
+
+    private Map<String, Integer> requiredIndex;
+
+    private String[] required;
+
+    private JsonSchema additionalProperties;
+
+    private int minProperties = 0;
+
+    private int maxProperties = Integer.MAX_VALUE;
+
+    private JsonSchema items;
+
+    private int minItems = 0;
+
+    private int maxItems = Integer.MAX_VALUE;
+
+    private int minLength = 0;
+
+    private int maxLength = Integer.MAX_VALUE;
+
+    private Pattern pattern;
+
+    private Double minimum;
+
+    private Double maximum;
+
+    private boolean exclusiveMinimum;
+
+    private boolean exclusiveMaximum;
+
+    private JsonSchema(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    static JsonSchema compile(JsonNode schema) {
+
+        if (schema == null || !schema.isObject()) {
+            throw new IllegalArgumentException("JSON Schema must be an object");
+        }
+
+        JsonNode id = schema.has("$id") ? schema.get("$id") : schema.get("id");
+
+        return compile(schema, id == null ? null : id.asText());
+    }
+
+    private static JsonSchema compile(JsonNode schema, String id) {
+
+        JsonSchema compiled = new JsonSchema(id);
+
+        JsonNode type = schema.get("type");
+        if (type != null) {
+            compiled.types = 0;
+            if (type.isArray()) {
+                for (JsonNode each : type) {
+                    compiled.types |= typeOf(each.asText());
+                }
+            } else {
+                compiled.types = typeOf(type.asText());
+            }
+        }
+
+        if (schema.has("enum")) {
+            compiled.enumValues = new LinkedHashSet<>();
+            for (JsonNode each : schema.get("enum")) {
+                compiled.enumValues.add(each);
+            }
+        }
+        if (schema.has("const")) {
+            compiled.enumValues = Collections.singleton(schema.get("const"));
+        }
+
+        JsonNode properties = schema.get("properties");
+        if (properties != null) {
+            compiled.properties = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = properties.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                compiled.properties.put(field.getKey(), compile(field.getValue(), null));
+            }
+        }
+
+        JsonNode required = schema.get("required");
+        if (required != null && required.isArray() && required.size() > 0) {
+            compiled.required = new String[required.size()];
+            compiled.requiredIndex = new HashMap<>();
+            for (int i = 0; i < required.size(); i++) {
+                compiled.required[i] = required.get(i).asText();
+                compiled.requiredIndex.put(compiled.required[i], i);
+            }
+        }
+
+        JsonNode additional = schema.get("additionalProperties");
+        if (additional != null) {
+            if (additional.isBoolean()) {
+                compiled.additionalProperties = additional.asBoolean() ? null : DISALLOWED;
+            } else {
+                compiled.additionalProperties = compile(additional, null);
+            }
+        }
+
+        if (schema.has("items") && schema.get("items").isObject()) {
+            compiled.items = compile(schema.get("items"), null);
+        }
+
+        compiled.minProperties = schema.path("minProperties").asInt(0);
+        compiled.maxProperties = schema.path("maxProperties").asInt(Integer.MAX_VALUE);
+        compiled.minItems = schema.path("minItems").asInt(0);
+        compiled.maxItems = schema.path("maxItems").asInt(Integer.MAX_VALUE);
+        compiled.minLength = schema.path("minLength").asInt(0);
+        compiled.maxLength = schema.path("maxLength").asInt(Integer.MAX_VALUE);
+
+        if (schema.has("pattern")) {
+            compiled.pattern = Pattern.compile(schema.get("pattern").asText());
+        }
+
+        if (schema.has("minimum")) {
+            compiled.minimum = schema.get("minimum").asDouble();
+        }
+        if (schema.has("maximum")) {
+            compiled.maximum = schema.get("maximum").asDouble();
+        }
+
+        // draft-04는 boolean, draft-06 이후는 숫자 형태를 사용한다.
+        JsonNode exclusiveMinimum = schema.get("exclusiveMinimum");
+        if (exclusiveMinimum != null) {
+            if (exclusiveMinimum.isNumber()) {
+                compiled.minimum = exclusiveMinimum.asDouble();
+                compiled.exclusiveMinimum = true;
+            } else {
+                compiled.exclusiveMinimum = exclusiveMinimum.asBoolean();
+            }
+        }
+        JsonNode exclusiveMaximum = schema.get("exclusiveMaximum");
+        if (exclusiveMaximum != null) {
+            if (exclusiveMaximum.isNumber()) {
+                compiled.maximum = exclusiveMaximum.asDouble();
+                compiled.exclusiveMaximum = true;
+            } else {
+                compiled.exclusiveMaximum = exclusiveMaximum.asBoolean();
+            }
+        }
+
+        return compiled;
+    }
+
+    private static int typeOf(String name) {
+
+        for (int i = 0; i < TYPE_NAMES.length; i++) {
+            if (TYPE_NAMES[i].equals(name)) {
+                return 1 << i;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown type '" + name + "'");
+    }
+
+    /**
+     * parser의 다음 값을 검사한다. sink가 있으면 읽은 토큰을 그대로 복사하여 검사 후 바로 binding 할 수 있게 한다.
+     *
+     * @return 오류 메시지 목록, 유효하면 빈 목록
+     */
+    List<String> validate(JsonParser parser, TokenBuffer sink) throws IOException {
+
+        List<String> errors = new ArrayList<>();
+
+        if (parser.nextToken() == null) {
+            errors.add("$: no content");
+            return errors;
+        }
+
+        validateValue(parser, sink, errors);
+
+        return errors;
+    }
+
+    /**
+     * parser가 값의 첫 토큰에 위치한 상태에서 호출되며, 반환 시 parser는 값의 마지막 토큰에 위치한다.
+     */
+    private void validateValue(JsonParser parser, TokenBuffer sink, List<String> errors) throws IOException {
+
+        if (this == DISALLOWED) {
+            errors.add(path(parser) + ": property is not allowed");
+            skip(parser, sink);
+            return;
+        }
+
+        JsonToken token = parser.getCurrentToken();
+        int type = typeOf(token);
+
+        if ((types & type) == 0 && !(type == TYPE_INTEGER && (types & TYPE_NUMBER) != 0)) {
+            errors.add(path(parser) + ": expected " + typeNames(types) + " but was " + typeNames(type));
+            skip(parser, sink);
+            return;
+        }
+
+        if (enumValues != null) {
+            JsonNode value = parser.readValueAsTree();
+            if (sink != null) {
+                sink.writeTree(value);
+            }
+            if (!enumValues.contains(value)) {
+                errors.add(path(parser) + ": value " + value + " is not one of " + enumValues);
+            }
+            return;
+        }
+
+        switch (type) {
+            case TYPE_OBJECT:
+                validateObject(parser, sink, errors);
+                break;
+            case TYPE_ARRAY:
+                validateArray(parser, sink, errors);
+                break;
+            case TYPE_STRING:
+                copy(parser, sink);
+                validateString(parser, errors);
+                break;
+            case TYPE_INTEGER:
+            case TYPE_NUMBER:
+                copy(parser, sink);
+                validateNumber(parser, errors);
+                break;
+            default:
+                copy(parser, sink);
+        }
+    }
+
+    private void validateObject(JsonParser parser, TokenBuffer sink, List<String> errors) throws IOException {
+
+        copy(parser, sink);
+
+        boolean[] seen = required == null ? null : new boolean[required.length];
+        int count = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+            copy(parser, sink);
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            count++;
+
+            if (seen != null) {
+                Integer index = requiredIndex.get(name);
+                if (index != null) {
+                    seen[index] = true;
+                }
+            }
+
+            JsonSchema schema = properties == null ? null : properties.get(name);
+
+            if (schema == null) {
+                schema = additionalProperties;
+            }
+
+            if (schema == null) {
+                skip(parser, sink);
+            } else {
+                schema.validateValue(parser, sink, errors);
+            }
+        }
+
+        copy(parser, sink);
+
+        if (seen != null) {
+            for (int i = 0; i < seen.length; i++) {
+                if (!seen[i]) {
+                    errors.add(path(parser) + ": required property '" + required[i] + "' is missing");
+                }
+            }
+        }
+
+        if (count < minProperties || count > maxProperties) {
+            errors.add(path(parser) + ": property count " + count + " is out of range [" + minProperties + ", " + maxProperties + "]");
+        }
+    }
+
+    private void validateArray(JsonParser parser, TokenBuffer sink, List<String> errors) throws IOException {
+
+        copy(parser, sink);
+
+        int count = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+
+            count++;
+
+            if (items == null) {
+                skip(parser, sink);
+            } else {
+                items.validateValue(parser, sink, errors);
+            }
+        }
+
+        copy(parser, sink);
+
+        if (count < minItems || count > maxItems) {
+            errors.add(path(parser) + ": item count " + count + " is out of range [" + minItems + ", " + maxItems + "]");
+        }
+    }
+
+    private void validateString(JsonParser parser, List<String> errors) throws IOException {
+
+        if (minLength == 0 && maxLength == Integer.MAX_VALUE && pattern == null) {
+            return;
+        }
+
+        String value = parser.getText();
+        int length = value.codePointCount(0, value.length());
+
+        if (length < minLength || length > maxLength) {
+            errors.add(path(parser) + ": length " + length + " is out of range [" + minLength + ", " + maxLength + "]");
+        }
+
+        if (pattern != null && !pattern.matcher(value).find()) {
+            errors.add(path(parser) + ": value does not match pattern " + pattern.pattern());
+        }
+    }
+
+    private void validateNumber(JsonParser parser, List<String> errors) throws IOException {
+
+        if (minimum == null && maximum == null) {
+            return;
+        }
+
+        double value = parser.getDoubleValue();
+
+        if (minimum != null && (exclusiveMinimum ? value <= minimum : value < minimum)) {
+            errors.add(path(parser) + ": " + value + " is less than " + (exclusiveMinimum ? "or equal to " : "") + minimum);
+        }
+
+        if (maximum != null && (exclusiveMaximum ? value >= maximum : value > maximum)) {
+            errors.add(path(parser) + ": " + value + " is greater than " + (exclusiveMaximum ? "or equal to " : "") + maximum);
+        }
+    }
+
+    private static int typeOf(JsonToken token) {
+
+        switch (token) {
+            case START_OBJECT:
+                return TYPE_OBJECT;
+            case START_ARRAY:
+                return TYPE_ARRAY;
+            case VALUE_STRING:
+                return TYPE_STRING;
+            case VALUE_NUMBER_INT:
+                return TYPE_INTEGER;
+            case VALUE_NUMBER_FLOAT:
+                return TYPE_NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return TYPE_BOOLEAN;
+            default:
+                return TYPE_NULL;
+        }
+    }
+
+    private static String typeNames(int types) {
+
+        StringJoiner joiner = new StringJoiner("|");
+
+        for (int i = 0; i < TYPE_NAMES.length; i++) {
+            if ((types & (1 << i)) != 0) {
+                joiner.add(TYPE_NAMES[i]);
+            }
+        }
+
+        return joiner.toString();
+    }
+
+    private static void copy(JsonParser parser, TokenBuffer sink) throws IOException {
+        if (sink != null) {
+            sink.copyCurrentEvent(parser);
+        }
+    }
+
+    private static void skip(JsonParser parser, TokenBuffer sink) throws IOException {
+        if (sink != null) {
+            sink.copyCurrentStructure(parser);
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * 오류가 발생했을 때만 parsing context로부터 "$.a[0].b" 형태의 경로를 만든다.
+     */
+    private static String path(JsonParser parser) {
+
+        Deque<String> segments = new ArrayDeque<>();
+        JsonStreamContext context = parser.getParsingContext();
+
+        // 컨테이너의 시작 토큰에서는 자기 자신의 context가 현재 context이므로 부모로 올라간다.
+        if (parser.getCurrentToken() == JsonToken.START_OBJECT || parser.getCurrentToken() == JsonToken.START_ARRAY) {
+            context = context.getParent();
+        }
+
+        while (context != null && !context.inRoot()) {
+            if (context.inArray()) {
+                segments.addFirst("[" + context.getCurrentIndex() + "]");
+            } else if (context.getCurrentName() != null) {
+                segments.addFirst("." + context.getCurrentName());
+            }
+            context = context.getParent();
+        }
+
+        StringBuilder path = new StringBuilder("$");
+        segments.forEach(path::append);
+
+        return path.toString();
+    }
+}
@@ -1,46 +1,141 @@
 package io.geronimo;
 
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Slf4j
 @UtilityClass
 public class JsonUtils {
 
+    /** NDJSON 파일을 병렬 파싱할 때 사용하는 청크의 기본 크기(byte) */
+    public static final int JSON_LINES_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /** 한 번에 byte 배열로 읽을 수 있는 청크의 최대 크기(byte), VM의 배열 크기 제한을 고려한다. */
+    private static final int MAX_JSON_LINES_CHUNK_LENGTH = Integer.MAX_VALUE - 8;
+
     private static ObjectMapper mapper;
 
-    private static ObjectMapper getInstance() {
+    private static final ConcurrentMap<JsonFormat, ObjectMapper> formatMappers = new ConcurrentHashMap<>();
+
+    /** 컴파일된 JSON Schema 캐시의 최대 크기 */
+    public static final int SCHEMA_CACHE_SIZE = 256;
+
+    /** schema 문자열별 컴파일된 schema */
+    private static final ConcurrentMap<String, JsonSchema> schemas = new ConcurrentHashMap<>();
 
-        mapper = new ObjectMapper();
+    /** schema id별 가장 최근에 컴파일된 schema */
+    private static final ConcurrentMap<String, JsonSchema> schemaIds = new ConcurrentHashMap<>();
 
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.configure(MapperFeature.AUTO_DETECT_GETTERS, true);
-        mapper.configure(MapperFeature.AUTO_DETECT_IS_GETTERS, true);
-        mapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
-        mapper.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, false);
-        mapper.registerModule(new JavaTimeModule());
+    private static volatile JsonFormat defaultFormat = JsonFormat.fromProperty();
+
+    private static ObjectMapper getInstance() {
+
+        mapper = configure(new ObjectMapper());
 
         return mapper;
     }
 
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+
+        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.configure(MapperFeature.AUTO_DETECT_GETTERS, true);
+        objectMapper.configure(MapperFeature.AUTO_DETECT_IS_GETTERS, true);
+        objectMapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+        objectMapper.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, false);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.registerModule(new JsonOptimizedModule());
+
+        return objectMapper;
+    }
+
     private static ObjectMapper getObjectMapper() {
         return mapper == null ? getInstance() : mapper;
     }
 
+    private static ObjectMapper getObjectMapper(JsonFormat format) {
+
+        if (format == JsonFormat.JSON) {
+            return getObjectMapper();
+        }
+
+        return formatMappers.computeIfAbsent(format, f -> configure(new ObjectMapper(f.newFactory())));
+    }
+
+    /**
+     * 자주 사용하는 DTO 타입의 serializer, deserializer를 모든 포맷(JSON, SMILE, CBOR)의 mapper에 미리 생성하여 캐시한다.<br>
+     * 애플리케이션 기동 시 호출하면 첫 요청에서 발생하는 introspection 비용을 없앨 수 있다.<br>
+     * {@link JsonOptimized}가 지정된 타입은 이때 생성된 accessor 클래스가 reflection 호출을 대신한다.
+     *
+     * @param types 미리 준비할 DTO 타입
+     */
+    public static void warmUp(Class<?>... types) {
+
+        for (JsonFormat format : JsonFormat.values()) {
+            warmUp(format, types);
+        }
+    }
+
+    /**
+     * 지정한 포맷의 mapper에만 DTO 타입의 serializer, deserializer를 미리 생성한다.
+     *
+     * @param format 포맷
+     * @param types 미리 준비할 DTO 타입
+     */
+    public static void warmUp(JsonFormat format, Class<?>... types) {
+
+        ObjectMapper objectMapper = getObjectMapper(format);
+
+        for (Class<?> type : types) {
+            try {
+                objectMapper.writerFor(type);
+                objectMapper.readerFor(type);
+            } catch (Exception e) {
+                log.error("JsonUtils-warmUp :: {} -> {}", type.getName(), e.getMessage());
+            }
+        }
+    }
+
+    public static JsonFormat getDefaultFormat() {
+        return defaultFormat;
+    }
+
+    /**
+     * toBytes, fromBytes에서 format을 지정하지 않았을 때 사용할 기본 포맷을 설정한다.<br>
+     * 기본값은 system property {@value JsonFormat#FORMAT_PROPERTY}로도 지정할 수 있으며, 없으면 JSON이다.
+     *
+     * @param format 기본 포맷
+     */
+    public static void setDefaultFormat(JsonFormat format) {
+        defaultFormat = format;
+    }
+
     public static String toJson(Object object) {
 
         try {
@@ -163,4 +258,624 @@ public class JsonUtils {
             return null;
         }
     }
+
+    public static byte[] toJsonBytes(Object object) {
+
+        try {
+            return getObjectMapper().writeValueAsBytes(object);
+        } catch (Exception e) {
+            log.error("JsonUtils-toJsonBytes :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 기본 포맷({@link #getDefaultFormat()})으로 객체를 직렬화한다.<br>
+     * 서비스 간 호출이나 캐시 저장처럼 사람이 읽을 필요가 없는 곳에서 SMILE, CBOR를 설정하면 크기와 파싱 비용이 줄어든다.
+     *
+     * @param object 직렬화할 객체
+     * @return 직렬화된 byte 배열, 실패하면 null
+     */
+    public static byte[] toBytes(Object object) {
+        return toBytes(object, defaultFormat);
+    }
+
+    public static byte[] toBytes(Object object, JsonFormat format) {
+
+        try {
+            return getObjectMapper(format).writeValueAsBytes(object);
+        } catch (Exception e) {
+            log.error("JsonUtils-toBytes :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static <T> T fromBytes(byte[] bytes, Class<T> clazz) {
+        return fromBytes(bytes, clazz, defaultFormat);
+    }
+
+    public static <T> T fromBytes(byte[] bytes, Class<T> clazz, JsonFormat format) {
+
+        try {
+            return getObjectMapper(format).readValue(bytes, clazz);
+        } catch (Exception e) {
+            log.error("JsonUtils-fromBytes :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static <T> T fromBytes(byte[] bytes, TypeReference<T> typeReference) {
+        return fromBytes(bytes, typeReference, defaultFormat);
+    }
+
+    public static <T> T fromBytes(byte[] bytes, TypeReference<T> typeReference, JsonFormat format) {
+
+        try {
+            return getObjectMapper(format).readValue(bytes, typeReference);
+        } catch (Exception e) {
+            log.error("JsonUtils-fromBytes :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 객체를 UTF-8 JSON으로 직렬화하여 String을 거치지 않고 바로 스트림에 기록한다. 스트림은 close 하지 않는다.
+     *
+     * @param object 직렬화할 객체
+     * @param out 기록 대상 스트림
+     * @return 성공하면 true를 그렇지 않으면 false를 반환
+     */
+    public static boolean writeJson(Object object, OutputStream out) {
+
+        try {
+            getObjectMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, object);
+            return true;
+        } catch (Exception e) {
+            log.error("JsonUtils-writeJson :: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 객체를 UTF-8 JSON으로 직렬화하여 buffer의 현재 position부터 기록한다.<br>
+     * 공간이 부족하면 buffer의 position을 원래대로 되돌리고 false를 반환한다.
+     *
+     * @param object 직렬화할 객체
+     * @param buffer 기록 대상 buffer
+     * @return 성공하면 true를 그렇지 않으면 false를 반환
+     */
+    public static boolean writeJson(Object object, ByteBuffer buffer) {
+
+        int position = buffer.position();
+
+        try {
+            getObjectMapper().writer().writeValue(new ByteBufferBackedOutputStream(buffer), object);
+            return true;
+        } catch (Exception e) {
+            buffer.position(position);
+            log.error("JsonUtils-writeJson :: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public static <T> T fromJson(byte[] json, Class<T> clazz) {
+
+        try {
+            return getObjectMapper().readValue(json, clazz);
+        } catch (Exception e) {
+            log.error("JsonUtils-fromJson :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static <T> T fromJson(byte[] json, TypeReference<T> typeReference) {
+
+        try {
+            return getObjectMapper().readValue(json, typeReference);
+        } catch (Exception e) {
+            log.error("JsonUtils-fromJson :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 스트림에서 JSON을 읽어 객체로 변환한다. 스트림은 close 하지 않는다.
+     */
+    public static <T> T fromJson(InputStream in, Class<T> clazz) {
+        return fromJson(in, getObjectMapper().readerFor(clazz));
+    }
+
+    public static <T> T fromJson(InputStream in, TypeReference<T> typeReference) {
+        return fromJson(in, getObjectMapper().readerFor(typeReference));
+    }
+
+    private static <T> T fromJson(InputStream in, ObjectReader reader) {
+
+        try {
+            return reader.without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(in);
+        } catch (Exception e) {
+            log.error("JsonUtils-fromJson :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * buffer의 position부터 limit까지를 JSON으로 읽어 객체로 변환한다. 성공하면 buffer의 position은 limit으로 이동한다.
+     */
+    public static <T> T fromJson(ByteBuffer buffer, Class<T> clazz) {
+        return fromJson(buffer, getObjectMapper().readerFor(clazz));
+    }
+
+    public static <T> T fromJson(ByteBuffer buffer, TypeReference<T> typeReference) {
+        return fromJson(buffer, getObjectMapper().readerFor(typeReference));
+    }
+
+    private static <T> T fromJson(ByteBuffer buffer, ObjectReader reader) {
+
+        try {
+            T value;
+
+            if (buffer.hasArray()) {
+                value = reader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            } else {
+                value = reader.readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+            }
+
+            buffer.position(buffer.limit());
+            return value;
+
+        } catch (Exception e) {
+            log.error("JsonUtils-fromJson :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * JSON 전체를 트리로 만들지 않고 토큰을 순차적으로 읽으며 path에 해당하는 값만 추출한다.<br>
+     * 필요 없는 하위 트리는 건너뛰고 값을 찾으면 즉시 읽기를 멈춘다.<br><br>
+     *
+     * JsonUtils.extract("{\"a\":{\"b\":[0,1,2,{\"c\":\"x\"}]}}", "$.a.b[3].c") = TextNode("x")
+     *
+     * @param json JSON 문자열
+     * @param path 추출할 path (예: "$.a.b[3].c", "$['a b'][0]")
+     * @return path에 해당하는 값, 없거나 파싱에 실패하거나 path가 올바르지 않으면 null
+     */
+    public static JsonNode extract(String json, String path) {
+        return extractAll(json, path).get(path);
+    }
+
+    /**
+     * 여러 path를 한 번의 순차 읽기로 추출한다. 모든 path가 결정되면 나머지 입력은 읽지 않는다.
+     *
+     * @param json JSON 문자열
+     * @param paths 추출할 path 목록
+     * @return path를 key로 하는 결과, 존재하지 않는 path는 포함되지 않는다. 파싱에 실패하거나 path가 올바르지 않으면 빈 map
+     */
+    public static Map<String, JsonNode> extractAll(String json, String... paths) {
+
+        try (JsonParser parser = getObjectMapper().getFactory().createParser(json)) {
+            return extractAll(parser, paths);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("JsonUtils-extractAll :: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    public static JsonNode extract(byte[] json, String path) {
+        return extractAll(json, path).get(path);
+    }
+
+    public static Map<String, JsonNode> extractAll(byte[] json, String... paths) {
+
+        try (JsonParser parser = getObjectMapper().getFactory().createParser(json)) {
+            return extractAll(parser, paths);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("JsonUtils-extractAll :: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 스트림에서 path에 해당하는 값만 추출한다. 모든 path가 결정되면 더 이상 읽지 않으며 스트림은 close 하지 않는다.
+     */
+    public static Map<String, JsonNode> extractAll(InputStream in, String... paths) {
+
+        try (JsonParser parser = getObjectMapper().getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return extractAll(parser, paths);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("JsonUtils-extractAll :: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private static Map<String, JsonNode> extractAll(JsonParser parser, String... paths) throws IOException {
+
+        List<JsonPath> compiled = new ArrayList<>(paths.length);
+
+        for (String path : new LinkedHashSet<>(Arrays.asList(paths))) {
+            compiled.add(JsonPath.compile(path));
+        }
+
+        return JsonPath.extract(getObjectMapper(), parser, compiled);
+    }
+
+    /**
+     * JSON Merge Patch(RFC 7386)를 적용한다. 원본은 변경되지 않으며 변경된 경로만 복사하고 나머지는 원본과 공유하므로,
+     * 결과 노드는 읽기 전용으로 다뤄야 한다.
+     *
+     * @param target 원본 문서
+     * @param patch merge patch 문서
+     * @return patch가 적용된 문서
+     */
+    public static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+        return JsonPatch.mergePatch(target, patch);
+    }
+
+    /**
+     * @param json 원본 문서
+     * @param patch merge patch 문서
+     * @return patch가 적용된 문서, 원본이나 patch가 올바른 JSON이 아니면 null
+     */
+    public static String mergePatch(String json, String patch) {
+
+        JsonNode target = fromJson(json);
+        JsonNode patchNode = fromJson(patch);
+
+        if (target == null || patchNode == null) {
+            log.error("JsonUtils-mergePatch :: invalid {} document", target == null ? "target" : "patch");
+            return null;
+        }
+
+        return toJson(mergePatch(target, patchNode));
+    }
+
+    public static boolean mergePatch(JsonNode target, JsonNode patch, OutputStream out) {
+        return writeJson(mergePatch(target, patch), out);
+    }
+
+    /**
+     * JSON Patch(RFC 6902) 연산 배열(add, remove, replace, move, copy, test)을 순서대로 적용한다.<br>
+     * 원본은 변경되지 않으며 변경된 경로만 복사한다. 하나의 연산이라도 실패하면 전체가 적용되지 않는다.
+     *
+     * @param target 원본 문서
+     * @param patch JSON Patch 연산 배열
+     * @return patch가 적용된 문서, 실패하면 null
+     */
+    public static JsonNode applyPatch(JsonNode target, JsonNode patch) {
+
+        try {
+            return JsonPatch.applyPatch(target, patch);
+        } catch (Exception e) {
+            log.error("JsonUtils-applyPatch :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static String applyPatch(String json, String patch) {
+
+        JsonNode result = applyPatch(fromJson(json), fromJson(patch));
+
+        return result == null ? null : toJson(result);
+    }
+
+    public static boolean applyPatch(JsonNode target, JsonNode patch, OutputStream out) {
+
+        JsonNode result = applyPatch(target, patch);
+
+        return result != null && writeJson(result, out);
+    }
+
+    /**
+     * JSON Schema를 컴파일하여 재사용 가능한 validator를 반환한다.<br>
+     * 컴파일 결과는 schema 문자열을 key로 캐시되므로 같은 schema는 한 번만 컴파일된다.<br>
+     * schema의 $id(없으면 id)로도 조회할 수 있으며, 같은 id의 다른 schema를 컴파일하면 id는 새 schema를 가리킨다.
+     *
+     * @param schema JSON Schema 문자열
+     * @return 컴파일된 validator, schema가 올바르지 않으면 null
+     */
+    public static JsonSchema compileSchema(String schema) {
+
+        JsonSchema cached = schemas.get(schema);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            JsonSchema compiled = JsonSchema.compile(getObjectMapper().readTree(schema));
+
+            if (schemas.size() < SCHEMA_CACHE_SIZE) {
+                JsonSchema existing = schemas.putIfAbsent(schema, compiled);
+                compiled = existing == null ? compiled : existing;
+            }
+
+            String id = compiled.getId();
+
+            if (id != null && (schemaIds.containsKey(id) || schemaIds.size() < SCHEMA_CACHE_SIZE)) {
+                JsonSchema previous = schemaIds.put(id, compiled);
+
+                if (previous != null && previous != compiled) {
+                    log.warn("JsonUtils-compileSchema :: schema id '{}' now refers to a different schema", id);
+                }
+            }
+            return compiled;
+
+        } catch (Exception e) {
+            log.error("JsonUtils-compileSchema :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시된 validator를 schema id로 조회한다.
+     *
+     * @param id schema의 $id
+     * @return 컴파일된 validator, 캐시에 없으면 null
+     */
+    public static JsonSchema getSchema(String id) {
+        return schemaIds.get(id);
+    }
+
+    /**
+     * JSON을 트리로 만들지 않고 한 번의 순차 읽기로 schema를 검사한다.
+     *
+     * @param json 검사할 JSON 문자열
+     * @param schema 컴파일된 validator
+     * @return "$.a.b: ..." 형태의 오류 메시지 목록, 유효하면 빈 목록
+     */
+    public static List<String> validate(String json, JsonSchema schema) {
+
+        try (JsonParser parser = getObjectMapper().getFactory().createParser(json)) {
+            return schema.validate(parser, null);
+        } catch (IOException e) {
+            log.error("JsonUtils-validate :: {}", e.getMessage());
+            return Collections.singletonList("$: " + e.getMessage());
+        }
+    }
+
+    public static List<String> validate(byte[] json, JsonSchema schema) {
+
+        try (JsonParser parser = getObjectMapper().getFactory().createParser(json)) {
+            return schema.validate(parser, null);
+        } catch (IOException e) {
+            log.error("JsonUtils-validate :: {}", e.getMessage());
+            return Collections.singletonList("$: " + e.getMessage());
+        }
+    }
+
+    /**
+     * schema 검사와 binding을 한 번의 입력 읽기로 수행한다. 검사 중 읽은 토큰을 버퍼에 보관했다가 유효하면 그대로 binding 한다.
+     *
+     * @param json JSON 문자열
+     * @param schema 컴파일된 validator
+     * @param clazz 변환할 타입
+     * @return 변환된 객체, schema에 맞지 않거나 변환에 실패하면 null
+     */
+    public static <T> T fromJson(String json, JsonSchema schema, Class<T> clazz) {
+
+        try (JsonParser parser = getObjectMapper().getFactory().createParser(json)) {
+            return bindValidated(parser, schema, getObjectMapper().readerFor(clazz));
+        } catch (IOException e) {
+            log.error("JsonUtils-fromJson :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static <T> T fromJson(byte[] json, JsonSchema schema, Class<T> clazz) {
+
+        try (JsonParser parser = getObjectMapper().getFactory().createParser(json)) {
+            return bindValidated(parser, schema, getObjectMapper().readerFor(clazz));
+        } catch (IOException e) {
+            log.error("JsonUtils-fromJson :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static <T> T bindValidated(JsonParser parser, JsonSchema schema, ObjectReader reader) throws IOException {
+
+        TokenBuffer buffer = new TokenBuffer(parser);
+        List<String> errors = schema.validate(parser, buffer);
+
+        if (!errors.isEmpty()) {
+            log.error("JsonUtils-fromJson :: schema validation failed -> {}", errors);
+            return null;
+        }
+
+        return reader.readValue(buffer.asParser());
+    }
+
+    /**
+     * NDJSON(JSON Lines) 파일을 줄 단위 객체의 Stream으로 읽는다.<br>
+     * 파일은 줄바꿈 경계에 맞춰 청크로 나뉘어 memory-map 되고, 청크들은 병렬로 파싱되지만 Stream의 순서는 파일 순서를 유지한다.<br>
+     * 파싱에 실패한 줄은 로그를 남기고 건너뛴다. 한 줄이 2GB에 가까워 청크를 배열로 읽을 수 없으면 해당 청크를 로그를 남기고 건너뛴다.<br>
+     * 반환된 Stream은 사용 후 반드시 close 해야 한다.
+     *
+     * @param path NDJSON 파일 경로
+     * @param clazz 각 줄을 변환할 타입
+     * @return 파일 순서를 유지하는 객체 Stream, 파일을 열 수 없으면 빈 Stream
+     */
+    public static <T> Stream<T> fromJsonLines(Path path, Class<T> clazz) {
+        return fromJsonLines(path, getObjectMapper().readerFor(clazz));
+    }
+
+    public static <T> Stream<T> fromJsonLines(Path path, TypeReference<T> typeReference) {
+        return fromJsonLines(path, getObjectMapper().readerFor(typeReference));
+    }
+
+    private static <T> Stream<T> fromJsonLines(Path path, ObjectReader reader) {
+
+        FileChannel channel = null;
+
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+
+            final FileChannel source = channel;
+            final long[] bounds = splitJsonLines(source, JSON_LINES_CHUNK_SIZE);
+
+            return IntStream.range(0, bounds.length - 1)
+                    .parallel()
+                    .mapToObj(i -> JsonUtils.<T>readJsonLinesChunk(source, bounds[i], bounds[i + 1], reader))
+                    .flatMap(List::stream)
+                    .onClose(() -> closeQuietly(source));
+
+        } catch (IOException e) {
+            log.error("JsonUtils-fromJsonLines :: {}", e.getMessage());
+            closeQuietly(channel);
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * 파일을 chunkSize 근처의 줄바꿈 위치에서 잘라 각 청크의 시작 offset 배열(마지막 원소는 파일 크기)을 반환한다.
+     */
+    private static long[] splitJsonLines(FileChannel channel, int chunkSize) throws IOException {
+
+        long size = channel.size();
+        long[] bounds = new long[(int) (size / chunkSize) + 2];
+        int count = 0;
+
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = 0;
+        bounds[count++] = 0;
+
+        while (position + chunkSize < size) {
+
+            long scan = position + chunkSize;
+            long boundary = size;
+
+            scanning:
+            while (scan < size) {
+                buffer.clear();
+                int read = channel.read(buffer, scan);
+
+                if (read <= 0) {
+                    break;
+                }
+
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        boundary = scan + i + 1;
+                        break scanning;
+                    }
+                }
+                scan += read;
+            }
+
+            if (boundary >= size) {
+                break;
+            }
+
+            if (count == bounds.length - 1) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+
+            bounds[count++] = boundary;
+            position = boundary;
+        }
+
+        bounds[count++] = size;
+
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private static <T> List<T> readJsonLinesChunk(FileChannel channel, long start, long end, ObjectReader reader) {
+
+        if (end - start > MAX_JSON_LINES_CHUNK_LENGTH) {
+            log.error("JsonUtils-fromJsonLines :: offset {} -> chunk of {} bytes exceeds {} bytes", start, end - start, MAX_JSON_LINES_CHUNK_LENGTH);
+            return Collections.emptyList();
+        }
+
+        int length = (int) (end - start);
+
+        if (length == 0) {
+            return Collections.emptyList();
+        }
+
+        byte[] bytes = new byte[length];
+
+        try {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            mapped.get(bytes);
+        } catch (IOException e) {
+            log.error("JsonUtils-fromJsonLines :: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+
+        List<T> values = new ArrayList<>();
+        int lineStart = 0;
+
+        for (int i = 0; i <= length; i++) {
+
+            if (i < length && bytes[i] != '\n') {
+                continue;
+            }
+
+            int lineEnd = i;
+
+            while (lineEnd > lineStart && (bytes[lineEnd - 1] == '\r' || bytes[lineEnd - 1] == ' ' || bytes[lineEnd - 1] == '\t')) {
+                lineEnd--;
+            }
+
+            if (lineEnd > lineStart) {
+                try {
+                    values.add(reader.readValue(bytes, lineStart, lineEnd - lineStart));
+                } catch (IOException e) {
+                    log.error("JsonUtils-fromJsonLines :: offset {} -> {}", start + lineStart, e.getMessage());
+                }
+            }
+
+            lineStart = i + 1;
+        }
+
+        return values;
+    }
+
+    /**
+     * NDJSON(JSON Lines) 형식의 버퍼링 writer를 생성한다. 줄바꿈 없는 compact JSON을 한 줄에 하나씩 기록한다.
+     *
+     * @param out 기록 대상 스트림(writer를 close 하면 함께 close 된다)
+     * @return JsonLinesWriter
+     */
+    public static JsonLinesWriter newJsonLinesWriter(OutputStream out) throws IOException {
+        return new JsonLinesWriter(getObjectMapper().writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE), out);
+    }
+
+    public static boolean toJsonLines(Iterable<?> objects, Path path) {
+        return toJsonLines(objects.iterator(), path);
+    }
+
+    public static boolean toJsonLines(Stream<?> objects, Path path) {
+        return toJsonLines(objects.iterator(), path);
+    }
+
+    private static boolean toJsonLines(Iterator<?> objects, Path path) {
+
+        try (JsonLinesWriter writer = newJsonLinesWriter(Files.newOutputStream(path))) {
+
+            while (objects.hasNext()) {
+                writer.write(objects.next());
+            }
+            return true;
+
+        } catch (IOException e) {
+            log.error("JsonUtils-toJsonLines :: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("JsonUtils-closeQuietly :: {}", e.getMessage());
+        }
+    }
 }
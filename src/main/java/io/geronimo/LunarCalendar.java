@@ -0,0 +1,245 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 한국 음력(태음태양력)과 양력 사이의 변환을 제공한다. 대상 범위는 음력 {@value #MIN_YEAR}년 1월 1일부터 {@value #MAX_YEAR}년 12월 말일까지이다.<br>
+ * 음력 연도마다 정수 하나에 월별 대소(30일/29일), 윤달, 설날의 위치를 담은 표를 사용하므로 변환은 상수 시간이며 객체를 만들지 않는다.<br><br>
+ *
+ * 일자는 PackedDate와 같은 yyyyMMdd 정수로 표현하며, 음력 일자가 윤달이면 {@link #LEAP_MONTH} bit가 더해진다.<br>
+ * LunarCalendar.toLunar(20250129) = 20250101 // 설날<br>
+ * LunarCalendar.toLunar(20250725) = 20250601 | LunarCalendar.LEAP_MONTH // 윤6월 1일<br><br>
+ *
+ * 표는 한국 표준시(1908~1911, 1954~1961년은 UTC+8:30, 그 외 UTC+9) 기준으로 계산한 합삭과 중기 시각으로 만들었다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@UtilityClass
+public final class LunarCalendar {
+
+	public static final int MIN_YEAR = 1900;
+
+	public static final int MAX_YEAR = 2100;
+
+	/** 음력 일자가 윤달임을 나타내는 bit */
+	public static final int LEAP_MONTH = 1 << 30;
+
+	/**
+	 * 음력 연도별 정보<br>
+	 * bit 0~12: 그 해의 n번째 달(윤달 포함)이 30일이면 1, 29일이면 0<br>
+	 * bit 13~16: 윤달(윤n월), 없으면 0<br>
+	 * bit 17~23: 음력 1월 1일이 양력 1월 1일로부터 며칠 뒤인지
+	 */
+	private static final int[] LUNAR_INFO = {
+		0x03d16d2, 0x0620752, 0x04c0ea5, 0x038ad4a, 0x05c054b, 0x0440a97, 0x0309556, 0x056056a, 0x0400b55, 0x02a5752,
+		0x0500752, 0x03ad725, 0x0600b25, 0x0480a4b, 0x032b29b, 0x0580aad, 0x044056a, 0x02c4b69, 0x0520ba9, 0x03efb52,
+		0x0640d92, 0x04c0d25, 0x036ba4d, 0x05c0956, 0x04602b5, 0x02e95ad, 0x05606d4, 0x0400da9, 0x02c5d92, 0x0500e92,
+		0x03acd26, 0x05e0527, 0x0480a57, 0x032b2b6, 0x0580ada, 0x04406d4, 0x02e6ea9, 0x0520749, 0x03cf693, 0x0620a93,
+		0x04c052b, 0x034ca5b, 0x05a096d, 0x0460b6a, 0x0329b54, 0x0560ba4, 0x0400b49, 0x02a5a93, 0x0500a95, 0x038f52b,
+		0x05e052d, 0x0480aad, 0x034b56a, 0x0580db2, 0x0440da4, 0x02e7d49, 0x0540d4a, 0x03d1a95, 0x0620a96, 0x04c0556,
+		0x036cab5, 0x05a0ad5, 0x04606d2, 0x0308ea5, 0x0560ea5, 0x0400e4a, 0x02a6c96, 0x04e0a9b, 0x03af556, 0x05e056a,
+		0x0480b59, 0x034b752, 0x05a0752, 0x0420725, 0x02c964b, 0x0520a4b, 0x03d12ab, 0x06002ad, 0x04a056b, 0x036cb69,
+		0x05c0da9, 0x0460d92, 0x0309b25, 0x0560d25, 0x0415a4d, 0x0640a56, 0x04e02b6, 0x038d5ad, 0x06006d4, 0x0480da9,
+		0x034bd92, 0x05a0e92, 0x0440d26, 0x02c6a56, 0x0500a57, 0x03d12b6, 0x0620b5a, 0x04c06d4, 0x036aec9, 0x05c0749,
+		0x0460693, 0x02e9527, 0x054052b, 0x03e0a5b, 0x02a555a, 0x04e036a, 0x038fb55, 0x0600ba4, 0x04a0b49, 0x032ba93,
+		0x0580a95, 0x042052d, 0x02c6a5d, 0x0500aad, 0x03d35aa, 0x06205d2, 0x04c0da5, 0x036bd4a, 0x05c0d4a, 0x0460a95,
+		0x030952d, 0x0540556, 0x03e0ab5, 0x02a55aa, 0x05006d2, 0x038cea5, 0x05e0ea5, 0x04a0e4a, 0x034ac96, 0x0560c9b,
+		0x042055a, 0x02c6ad5, 0x0520b69, 0x03d7752, 0x0620752, 0x04c0b25, 0x036d64b, 0x05a0a4b, 0x04404ab, 0x02ea55b,
+		0x054056d, 0x03e0b69, 0x02a5b52, 0x0500d92, 0x03afd25, 0x05e0d25, 0x0480a4d, 0x032b4ad, 0x05802b6, 0x04005b5,
+		0x02c6da9, 0x0520ea9, 0x03f1d92, 0x0620e92, 0x04c0d26, 0x036ca56, 0x05a0a57, 0x04404d6, 0x02e86b5, 0x05406d5,
+		0x0400ec9, 0x02a6e92, 0x04e0693, 0x038f52b, 0x05e052b, 0x0460a5b, 0x032b55a, 0x058056a, 0x0420b55, 0x02c9749,
+		0x0520b49, 0x03d1a93, 0x0620a95, 0x04a052d, 0x034caad, 0x05a0ab5, 0x04605aa, 0x02e8ba5, 0x0540da5, 0x0400d4a,
+		0x02a7a95, 0x04e0c95, 0x038f52e, 0x05e0556, 0x0480ab5, 0x032b5b2, 0x05806d2, 0x0420ea5, 0x02e9e4a, 0x052064a,
+		0x03b0c97, 0x0600cab, 0x04c055a, 0x034cad5, 0x05a0b69, 0x0460752, 0x03096a5, 0x0540b25, 0x03e064b, 0x0287497,
+		0x04e04ab
+	};
+
+	/** 음력 연도별 1월 1일의 epoch day, 마지막 원소는 MAX_YEAR 다음 해의 1월 1일 */
+	private static final long[] NEW_YEAR_EPOCH_DAYS = new long[LUNAR_INFO.length + 1];
+
+	static {
+		for (int i = 0; i < LUNAR_INFO.length; i++) {
+			NEW_YEAR_EPOCH_DAYS[i] = FixedDateFormat.epochDay(MIN_YEAR + i, 1, 1) + (LUNAR_INFO[i] >>> 17);
+		}
+
+		int last = LUNAR_INFO.length - 1;
+		NEW_YEAR_EPOCH_DAYS[last + 1] = NEW_YEAR_EPOCH_DAYS[last] + lengthOfYear(MAX_YEAR);
+	}
+
+	/**
+	 * 양력 일자를 음력 일자로 변환한다.
+	 *
+	 * @param solarDate yyyyMMdd 형태의 양력 일자
+	 * @return yyyyMMdd 형태의 음력 일자, 윤달이면 LEAP_MONTH bit가 더해진다.
+	 */
+	public static int toLunar(int solarDate) {
+
+		if (!PackedDate.isValid(solarDate)) {
+			throw new IllegalArgumentException("Invalid date: " + solarDate);
+		}
+
+		long epochDay = PackedDate.toEpochDay(solarDate);
+		int year = PackedDate.year(solarDate);
+
+		// 음력 설날은 양력 1~2월이므로 음력 연도는 양력 연도와 같거나 1 작다.
+		if (year > MAX_YEAR || year >= MIN_YEAR && epochDay < NEW_YEAR_EPOCH_DAYS[year - MIN_YEAR]) {
+			year--;
+		}
+
+		if (year < MIN_YEAR || year > MAX_YEAR || epochDay >= NEW_YEAR_EPOCH_DAYS[year - MIN_YEAR + 1]) {
+			throw new IllegalArgumentException("Date out of lunar calendar range: " + solarDate);
+		}
+
+		int info = LUNAR_INFO[year - MIN_YEAR];
+		int leapMonth = (info >>> 13) & 0xF;
+		int day = (int) (epochDay - NEW_YEAR_EPOCH_DAYS[year - MIN_YEAR]);
+		int index = 0;
+
+		for (int length = 29 + (info & 1); day >= length; length = 29 + (info >>> ++index & 1)) {
+			day -= length;
+		}
+
+		if (leapMonth == 0 || index < leapMonth) {
+			return year * 10_000 + (index + 1) * 100 + day + 1;
+		}
+
+		int lunar = year * 10_000 + index * 100 + day + 1;
+
+		return index == leapMonth ? lunar | LEAP_MONTH : lunar;
+	}
+
+	/**
+	 * 음력 일자를 양력 일자로 변환한다.
+	 *
+	 * @param lunarDate yyyyMMdd 형태의 음력 일자, 윤달이면 LEAP_MONTH bit를 더한다.
+	 * @return yyyyMMdd 형태의 양력 일자
+	 */
+	public static int toSolar(int lunarDate) {
+
+		int date = getDate(lunarDate);
+
+		return toSolar(PackedDate.year(date), PackedDate.month(date), PackedDate.day(date), isLeapMonth(lunarDate));
+	}
+
+	/**
+	 * 음력 일자를 양력 일자로 변환한다.<br><br>
+	 *
+	 * LunarCalendar.toSolar(2025, 8, 15, false) = 20251006 // 추석
+	 *
+	 * @param year 음력 연도
+	 * @param month 음력 월
+	 * @param day 음력 일
+	 * @param leapMonth 윤달 여부
+	 * @return yyyyMMdd 형태의 양력 일자
+	 */
+	public static int toSolar(int year, int month, int day, boolean leapMonth) {
+
+		int index = monthIndex(year, month, leapMonth);
+		int info = LUNAR_INFO[year - MIN_YEAR];
+
+		if (day < 1 || day > 29 + (info >>> index & 1)) {
+			throw new IllegalArgumentException("Invalid lunar day: " + year + "-" + month + "-" + day + (leapMonth ? " (leap)" : ""));
+		}
+
+		// index 이전 달들의 일 수 = 29 * index + 30일인 달의 수
+		int days = 29 * index + Integer.bitCount(info & ((1 << index) - 1)) + day - 1;
+
+		return PackedDate.ofEpochDay(NEW_YEAR_EPOCH_DAYS[year - MIN_YEAR] + days);
+	}
+
+	/**
+	 * 양력 일자 배열을 음력 일자로 변환하여 result에 기록한다.
+	 */
+	public static void toLunar(int[] solarDates, int[] result) {
+
+		for (int i = 0; i < solarDates.length; i++) {
+			result[i] = toLunar(solarDates[i]);
+		}
+	}
+
+	/**
+	 * 음력 일자 배열을 양력 일자로 변환하여 result에 기록한다.
+	 */
+	public static void toSolar(int[] lunarDates, int[] result) {
+
+		for (int i = 0; i < lunarDates.length; i++) {
+			result[i] = toSolar(lunarDates[i]);
+		}
+	}
+
+	/**
+	 * 음력 일자에서 LEAP_MONTH bit를 뺀 yyyyMMdd 값을 반환한다. PackedDate.year, month, day에 사용할 수 있다.
+	 */
+	public static int getDate(int lunarDate) {
+		return lunarDate & ~LEAP_MONTH;
+	}
+
+	public static boolean isLeapMonth(int lunarDate) {
+		return (lunarDate & LEAP_MONTH) != 0;
+	}
+
+	/**
+	 * @param year 음력 연도
+	 * @return 윤달(윤n월)의 n, 윤달이 없으면 0
+	 */
+	public static int getLeapMonth(int year) {
+		return (LUNAR_INFO[checkYear(year) - MIN_YEAR] >>> 13) & 0xF;
+	}
+
+	/**
+	 * @return 음력 월의 일 수 (29 또는 30)
+	 */
+	public static int lengthOfMonth(int year, int month, boolean leapMonth) {
+		return 29 + (LUNAR_INFO[year - MIN_YEAR] >>> monthIndex(year, month, leapMonth) & 1);
+	}
+
+	/**
+	 * @return 음력 연도의 일 수
+	 */
+	public static int lengthOfYear(int year) {
+
+		int info = LUNAR_INFO[checkYear(year) - MIN_YEAR];
+		int months = ((info >>> 13) & 0xF) == 0 ? 12 : 13;
+
+		return 29 * months + Integer.bitCount(info & 0x1FFF);
+	}
+
+	/**
+	 * 음력 월이 그 해의 몇 번째 달(0부터, 윤달 포함)인지 구한다.
+	 */
+	private static int monthIndex(int year, int month, boolean leapMonth) {
+
+		int leap = getLeapMonth(year);
+
+		if (month < 1 || month > 12 || leapMonth && month != leap) {
+			throw new IllegalArgumentException("Invalid lunar month: " + year + "-" + month + (leapMonth ? " (leap)" : ""));
+		}
+
+		return leap != 0 && (month > leap || leapMonth) ? month : month - 1;
+	}
+
+	private static int checkYear(int year) {
+
+		if (year < MIN_YEAR || year > MAX_YEAR) {
+			throw new IllegalArgumentException("Year out of lunar calendar range: " + year);
+		}
+
+		return year;
+	}
+}
@@ -0,0 +1,181 @@
+package io.geronimo;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * System.nanoTime을 기준으로 NTP 보정값을 점진적으로(slew) 반영하는 단조 증가 시계.<br>
+ * NTP 재동기화로 offset이 줄어들어도 반환값이 뒤로 가지 않으며, 모든 연산은 lock 없이 CAS로만 수행된다.<br><br>
+ *
+ * 보정값이 {@value #STEP_THRESHOLD_MILLIS}ms 이상 앞서면 즉시 반영하고, 그 외에는 경과 시간의 {@value #SLEW_RATE_PPM}ppm 만큼씩 따라간다.<br>
+ * {@link #nextTimestamp()}는 상위 48bit에 millis, 하위 {@value #SEQUENCE_BITS}bit에 순번을 담은 hybrid logical clock 값을 발급하며,
+ * 호출마다 엄격하게 증가한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+public class MonotonicClock {
+
+	/** 즉시 반영하는 전진 보정의 최소 크기(ms) */
+	public static final long STEP_THRESHOLD_MILLIS = 128;
+
+	/** 점진 보정 속도(ppm) */
+	public static final long SLEW_RATE_PPM = 500;
+
+	/** hybrid logical clock 값에서 순번이 차지하는 bit 수 */
+	public static final int SEQUENCE_BITS = 16;
+
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+
+	private final NtpSynchronizer synchronizer;
+
+	private final long baseNanos;
+
+	private final long baseMillis;
+
+	private final AtomicReference<Slew> slew;
+
+	private final AtomicLong lastMillis = new AtomicLong(Long.MIN_VALUE);
+
+	private final AtomicLong lastTimestamp = new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * nanos 시점에 적용 중인 보정값(ns)
+	 */
+	private static final class Slew {
+
+		private final long nanos;
+
+		private final long correction;
+
+		private Slew(long nanos, long correction) {
+			this.nanos = nanos;
+			this.correction = correction;
+		}
+	}
+
+	public MonotonicClock(NtpSynchronizer synchronizer) {
+
+		this.synchronizer = synchronizer;
+		this.baseNanos = System.nanoTime();
+		this.baseMillis = System.currentTimeMillis();
+		this.slew = new AtomicReference<>(new Slew(baseNanos, targetCorrection(baseNanos)));
+	}
+
+	/**
+	 * NTP 보정된 wall clock과 nanoTime 기반 시각의 차이(ns)
+	 */
+	private long targetCorrection(long nanos) {
+
+		long wallMillis = System.currentTimeMillis();
+		long localNanos = nanos - baseNanos;
+
+		return (wallMillis + synchronizer.getOffsetMillis(wallMillis) - baseMillis) * NANOS_PER_MILLI - localNanos;
+	}
+
+	private long correctionAt(long nanos) {
+
+		Slew current = slew.get();
+		long elapsed = nanos - current.nanos;
+
+		if (elapsed < NANOS_PER_MILLI) {
+			return current.correction;
+		}
+
+		long target = targetCorrection(nanos);
+		long diff = target - current.correction;
+		long maxStep = elapsed * SLEW_RATE_PPM / 1_000_000L;
+		long correction;
+
+		if (diff >= STEP_THRESHOLD_MILLIS * NANOS_PER_MILLI) {
+			correction = target;
+		} else if (diff > maxStep) {
+			correction = current.correction + maxStep;
+		} else if (diff < -maxStep) {
+			correction = current.correction - maxStep;
+		} else {
+			correction = target;
+		}
+
+		// 다른 스레드가 먼저 갱신했으면 그 값을 그대로 두고, 이번 호출은 계산한 값을 사용한다.
+		slew.compareAndSet(current, new Slew(nanos, correction));
+
+		return correction;
+	}
+
+	/**
+	 * @return NTP 보정된 현재 epoch millis, 이전 호출보다 작아지지 않는다.
+	 */
+	public long currentTimeMillis() {
+
+		long nanos = System.nanoTime();
+		long millis = baseMillis + Math.floorDiv(nanos - baseNanos + correctionAt(nanos), NANOS_PER_MILLI);
+
+		return advance(lastMillis, millis);
+	}
+
+	/**
+	 * 엄격하게 증가하는 hybrid logical clock 값을 발급한다. 같은 millis 안에서는 순번이 증가하고,
+	 * 순번이 넘치면 logical millis가 앞으로 이동한다.
+	 *
+	 * @return (millis &lt;&lt; SEQUENCE_BITS | sequence)
+	 */
+	public long nextTimestamp() {
+
+		long physical = currentTimeMillis() << SEQUENCE_BITS;
+
+		while (true) {
+			long last = lastTimestamp.get();
+			long next = Math.max(physical, last + 1);
+
+			if (lastTimestamp.compareAndSet(last, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * 다른 노드에서 받은 hybrid logical clock 값을 반영한 뒤, 그 값과 지금까지 발급한 값보다 큰 값을 발급한다.
+	 *
+	 * @param remoteTimestamp 수신한 timestamp
+	 * @return 새 timestamp
+	 */
+	public long receiveTimestamp(long remoteTimestamp) {
+
+		long physical = currentTimeMillis() << SEQUENCE_BITS;
+
+		while (true) {
+			long last = lastTimestamp.get();
+			long next = Math.max(physical, Math.max(last, remoteTimestamp) + 1);
+
+			if (lastTimestamp.compareAndSet(last, next)) {
+				return next;
+			}
+		}
+	}
+
+	public static long toMillis(long timestamp) {
+		return timestamp >> SEQUENCE_BITS;
+	}
+
+	public static int toSequence(long timestamp) {
+		return (int) (timestamp & SEQUENCE_MASK);
+	}
+
+	private static long advance(AtomicLong last, long value) {
+
+		while (true) {
+			long previous = last.get();
+
+			if (value <= previous) {
+				return previous;
+			}
+			if (last.compareAndSet(previous, value)) {
+				return value;
+			}
+		}
+	}
+}
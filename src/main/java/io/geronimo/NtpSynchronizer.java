@@ -0,0 +1,243 @@
+package io.geronimo;
+
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ntp.NTPUDPClient;
+import org.apache.commons.net.ntp.NtpV3Packet;
+import org.apache.commons.net.ntp.TimeInfo;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 daemon 스레드에서 여러 NTP 서버를 주기적으로 조회하여 로컬 시계의 offset과 drift를 추정한다.<br>
+ * 추정값은 불변 객체 하나로 volatile 필드에 게시되므로, {@link #getOffsetMillis()}와 {@link #currentTimeMillis()}는
+ * lock이나 네트워크 I/O 없이 값을 읽기만 한다. 첫 동기화 전에는 offset 0을 반환한다.<br><br>
+ *
+ * 각 동기화 주기마다 모든 서버를 조회한 뒤, 왕복 지연(delay)이 작은 절반의 표본에서 offset 중앙값을 취한다.
+ * drift는 연속된 동기화 사이의 offset 변화율을 지수 이동 평균으로 추정한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@Slf4j
+public class NtpSynchronizer {
+
+	/** 기본 동기화 주기(ms) */
+	public static final long DEFAULT_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+
+	/** drift 추정값의 최대 크기(500ppm) */
+	private static final double MAX_DRIFT = 500e-6;
+
+	/** drift 지수 이동 평균의 가중치 */
+	private static final double DRIFT_WEIGHT = 0.25;
+
+	private final String[] hosts;
+
+	private final int port;
+
+	private final int timeout;
+
+	private final long interval;
+
+	private volatile Estimate estimate = Estimate.NONE;
+
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * offset = baseOffset + drift * (localMillis - baseLocalMillis)
+	 */
+	private static final class Estimate {
+
+		private static final Estimate NONE = new Estimate(0L, 0L, 0d, 0L, -1);
+
+		private final long baseLocalMillis;
+
+		private final long baseOffset;
+
+		private final double drift;
+
+		private final long delay;
+
+		private final int samples;
+
+		private Estimate(long baseLocalMillis, long baseOffset, double drift, long delay, int samples) {
+			this.baseLocalMillis = baseLocalMillis;
+			this.baseOffset = baseOffset;
+			this.drift = drift;
+			this.delay = delay;
+			this.samples = samples;
+		}
+
+		private long offsetAt(long localMillis) {
+			return baseOffset + Math.round(drift * (localMillis - baseLocalMillis));
+		}
+	}
+
+	public NtpSynchronizer(String... hosts) {
+		this(hosts, NtpV3Packet.NTP_PORT, TimeUtils.DEFAULT_TIMEOUT, DEFAULT_INTERVAL);
+	}
+
+	/**
+	 * @param hosts NTP 서버 목록
+	 * @param port NTP 포트 (기본 123)
+	 * @param timeout 서버별 응답 대기 시간(ms)
+	 * @param interval 동기화 주기(ms)
+	 */
+	public NtpSynchronizer(String[] hosts, int port, int timeout, long interval) {
+		this.hosts = hosts.clone();
+		this.port = port;
+		this.timeout = timeout;
+		this.interval = interval;
+	}
+
+	/**
+	 * daemon 스레드에서 즉시 첫 동기화를 시작하고 이후 interval마다 반복한다. 이미 시작되었으면 아무것도 하지 않는다.
+	 *
+	 * @return this
+	 */
+	public synchronized NtpSynchronizer start() {
+
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "geronimo-ntp-sync");
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduler.scheduleWithFixedDelay(this::synchronizeQuietly, 0, interval, TimeUnit.MILLISECONDS);
+		}
+
+		return this;
+	}
+
+	public synchronized void stop() {
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	/**
+	 * 호출한 스레드에서 모든 서버를 조회하여 추정값을 갱신한다.
+	 *
+	 * @return 응답한 서버가 하나라도 있으면 true
+	 */
+	public boolean synchronize() {
+
+		List<long[]> samples = new ArrayList<>(hosts.length);
+
+		for (String host : hosts) {
+
+			NTPUDPClient client = new NTPUDPClient();
+			client.setDefaultTimeout(timeout);
+
+			try {
+				TimeInfo info = client.getTime(InetAddress.getByName(host), port);
+				info.computeDetails();
+
+				if (info.getOffset() != null && info.getDelay() != null) {
+					samples.add(new long[] { info.getDelay(), info.getOffset() });
+				}
+			} catch (IOException e) {
+				log.error("NtpSynchronizer-synchronize :: {} -> {}", host, e.getMessage());
+			} finally {
+				client.close();
+			}
+		}
+
+		if (samples.isEmpty()) {
+			return false;
+		}
+
+		// 지연이 작은 표본일수록 offset 오차가 작으므로 지연 순으로 정렬한 뒤 앞쪽 절반의 중앙값을 사용한다.
+		Collections.sort(samples, (a, b) -> Long.compare(a[0], b[0]));
+
+		List<long[]> best = samples.subList(0, (samples.size() + 1) / 2);
+		List<Long> offsets = new ArrayList<>(best.size());
+
+		for (long[] sample : best) {
+			offsets.add(sample[1]);
+		}
+		Collections.sort(offsets);
+
+		long offset = offsets.get(offsets.size() / 2);
+		long now = System.currentTimeMillis();
+
+		update(now, offset, best.get(0)[0], samples.size());
+
+		return true;
+	}
+
+	void update(long localMillis, long offset, long delay, int samples) {
+
+		Estimate previous = estimate;
+		double drift = 0d;
+
+		if (previous != Estimate.NONE && localMillis > previous.baseLocalMillis) {
+			double observed = (double) (offset - previous.baseOffset) / (localMillis - previous.baseLocalMillis);
+			drift = previous.drift + DRIFT_WEIGHT * (observed - previous.drift);
+			drift = Math.max(-MAX_DRIFT, Math.min(MAX_DRIFT, drift));
+		}
+
+		estimate = new Estimate(localMillis, offset, drift, delay, samples);
+
+		log.debug("NtpSynchronizer-update :: offset -> {}ms, drift -> {}ppm, delay -> {}ms, samples -> {}",
+				offset, drift * 1e6, delay, samples);
+	}
+
+	private void synchronizeQuietly() {
+
+		try {
+			synchronize();
+		} catch (RuntimeException e) {
+			log.error("NtpSynchronizer-synchronize :: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * @return 한 번이라도 동기화에 성공했으면 true
+	 */
+	public boolean isSynchronized() {
+		return estimate != Estimate.NONE;
+	}
+
+	/**
+	 * @return 현재 시점의 추정 offset(ms), 동기화 전이면 0
+	 */
+	public long getOffsetMillis() {
+		return estimate.offsetAt(System.currentTimeMillis());
+	}
+
+	public long getOffsetMillis(long localMillis) {
+		return estimate.offsetAt(localMillis);
+	}
+
+	/**
+	 * @return 추정 drift (로컬 시계 1ms당 offset 변화량)
+	 */
+	public double getDrift() {
+		return estimate.drift;
+	}
+
+	/**
+	 * @return 마지막 동기화에서 가장 작은 왕복 지연(ms)
+	 */
+	public long getDelayMillis() {
+		return estimate.delay;
+	}
+
+	/**
+	 * @return NTP offset으로 보정된 현재 epoch millis
+	 */
+	public long currentTimeMillis() {
+		long now = System.currentTimeMillis();
+		return now + estimate.offsetAt(now);
+	}
+}
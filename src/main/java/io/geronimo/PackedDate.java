@@ -0,0 +1,197 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * yyyyMMdd 형태의 정수(packed date)로 표현된 일자의 연산을 제공한다. 예) 20140608<br>
+ * 문자열 파싱이나 LocalDate 생성 없이 정수 연산만 사용하며, 배열 메소드는 결과 배열 외에 객체를 만들지 않는다.<br>
+ * 일 단위 연산은 epoch day(1970-01-01 = 0)를 거쳐 계산한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+@UtilityClass
+public final class PackedDate {
+
+	public static int of(int year, int month, int day) {
+
+		if (!isValid(year, month, day)) {
+			throw new IllegalArgumentException("Invalid date: " + year + "-" + month + "-" + day);
+		}
+
+		return year * 10_000 + month * 100 + day;
+	}
+
+	/**
+	 * "yyyyMMdd" 문자열을 packed date로 변환한다.
+	 *
+	 * @param text 8자리 숫자 문자열
+	 * @return packed date
+	 */
+	public static int parse(CharSequence text) {
+
+		if (text == null || text.length() != 8) {
+			throw new IllegalArgumentException("Invalid date: " + text);
+		}
+
+		int value = 0;
+
+		for (int i = 0; i < 8; i++) {
+			int digit = text.charAt(i) - '0';
+
+			if (digit < 0 || digit > 9) {
+				throw new IllegalArgumentException("Invalid date: " + text);
+			}
+			value = value * 10 + digit;
+		}
+
+		return of(year(value), month(value), day(value));
+	}
+
+	public static int year(int date) {
+		return date / 10_000;
+	}
+
+	public static int month(int date) {
+		return date / 100 % 100;
+	}
+
+	public static int day(int date) {
+		return date % 100;
+	}
+
+	public static boolean isValid(int date) {
+		return isValid(year(date), month(date), day(date));
+	}
+
+	private static boolean isValid(int year, int month, int day) {
+		return year >= 0 && year <= 9999 && month >= 1 && month <= 12 && day >= 1 && day <= FixedDateFormat.lengthOfMonth(year, month);
+	}
+
+	public static boolean isLeapYear(int date) {
+		return FixedDateFormat.isLeapYear(year(date));
+	}
+
+	public static int lengthOfMonth(int date) {
+		return FixedDateFormat.lengthOfMonth(year(date), month(date));
+	}
+
+	public static long toEpochDay(int date) {
+		return FixedDateFormat.epochDay(year(date), month(date), day(date));
+	}
+
+	public static int ofEpochDay(long epochDay) {
+
+		if (epochDay < FixedDateFormat.MIN_EPOCH_DAY || epochDay > FixedDateFormat.MAX_EPOCH_DAY) {
+			throw new IllegalArgumentException("Epoch day out of range: " + epochDay);
+		}
+
+		return FixedDateFormat.packedDate(epochDay);
+	}
+
+	/**
+	 * 만 나이를 구한다. AgeUtils.getAge(String, String)과 같은 결과를 반환한다.<br><br>
+	 *
+	 * PackedDate.getAge(19740608, 20140607) = 39
+	 *
+	 * @param birthdate 생년월일
+	 * @param baseDate 기준일자
+	 * @return 만 나이
+	 */
+	public static int getAge(int birthdate, int baseDate) {
+
+		int age = year(baseDate) - year(birthdate);
+
+		if (age > 0 && birthdate % 10_000 > baseDate % 10_000) {
+			age--;
+		}
+
+		return age;
+	}
+
+	/**
+	 * 전통 나이(현재년도 - 태어난 년도 + 1)를 구한다.
+	 *
+	 * @param birthdate 생년월일
+	 * @param baseDate 기준일자
+	 * @return 한국식 나이
+	 */
+	public static int getKoreanAge(int birthdate, int baseDate) {
+		return year(baseDate) - year(birthdate) + 1;
+	}
+
+	/**
+	 * 두 일자 사이의 일수를 구한다. DateUtils.getDays와 같이 endDate가 앞서면 음수이다.
+	 */
+	public static int getDays(int startDate, int endDate) {
+		return (int) (toEpochDay(endDate) - toEpochDay(startDate));
+	}
+
+	public static int plusDays(int date, long days) {
+		return days == 0 ? date : ofEpochDay(toEpochDay(date) + days);
+	}
+
+	/**
+	 * 생년월일 배열의 만 나이를 result에 기록한다.
+	 *
+	 * @param birthdates 생년월일 배열
+	 * @param baseDate 기준일자
+	 * @param result 결과 배열, birthdates 이상의 길이
+	 */
+	public static void getAges(int[] birthdates, int baseDate, int[] result) {
+
+		for (int i = 0; i < birthdates.length; i++) {
+			result[i] = getAge(birthdates[i], baseDate);
+		}
+	}
+
+	public static void getKoreanAges(int[] birthdates, int baseDate, int[] result) {
+
+		int baseYear = year(baseDate) + 1;
+
+		for (int i = 0; i < birthdates.length; i++) {
+			result[i] = baseYear - birthdates[i] / 10_000;
+		}
+	}
+
+	public static void getDays(int[] startDates, int endDate, int[] result) {
+
+		long end = toEpochDay(endDate);
+
+		for (int i = 0; i < startDates.length; i++) {
+			result[i] = (int) (end - toEpochDay(startDates[i]));
+		}
+	}
+
+	public static void plusDays(int[] dates, long days, int[] result) {
+
+		for (int i = 0; i < dates.length; i++) {
+			result[i] = plusDays(dates[i], days);
+		}
+	}
+
+	/**
+	 * packed date 배열을 epoch day 배열로 변환한다. 같은 기준일로 여러 번 계산할 때 미리 변환해 둔다.
+	 */
+	public static void toEpochDays(int[] dates, int[] result) {
+
+		for (int i = 0; i < dates.length; i++) {
+			result[i] = (int) toEpochDay(dates[i]);
+		}
+	}
+}
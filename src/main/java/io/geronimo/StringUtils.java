@@ -768,7 +768,7 @@ public final class StringUtils {
 		return size;
 	}
 	
-	private static int getByteLength(char charat) {
+	static int getByteLength(char charat) {
 		int charCode = charat;
 	
 		if (charCode <= ONE_BYTE) {
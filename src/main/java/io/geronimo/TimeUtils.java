@@ -3,18 +3,14 @@ package io.geronimo;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.net.ntp.NTPUDPClient;
-import org.apache.commons.net.ntp.TimeInfo;
 
-import java.io.IOException;
-import java.net.InetAddress;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 대기시간(sleep)을 지정하기 위해서 사용되는 Thread.sleep은 checkedException이다.<br>
  * 불필요한 try-catch를 생략하기위해 runtimeException으로 감싸는 wrapper 클래스를 제공한다.<br><br>
  *
- * NTP, UDP 시간 싱크를 위한 유틸리티를 제공한다.
+ * NTP, UDP 시간 싱크를 위한 유틸리티를 제공한다. 동기화는 NtpSynchronizer의 daemon 스레드가 주기적으로 수행한다.
  * 
  * @author tw.jang
  * @since 1.0.0
@@ -27,43 +23,66 @@ public final class TimeUtils {
 
 	public static final String[] NTP_HOSTS = new String[] { "kr.pool.ntp.org", "time.nist.gov", "time.nuri.net", "time.bora.net" };
 
-	private static TimeInfo timeInfo;
+	/**
+	 * NTP_HOSTS를 주기적으로 조회하는 기본 synchronizer. 처음 사용될 때 daemon 스레드와 함께 시작된다.
+	 */
+	private static final class SynchronizerHolder {
 
-	public static void resetCurrentTime() {
+		private static final NtpSynchronizer SYNCHRONIZER = new NtpSynchronizer(NTP_HOSTS).start();
 
-		for (String host: NTP_HOSTS) {
+		private static final MonotonicClock CLOCK = new MonotonicClock(SYNCHRONIZER);
+	}
 
-			NTPUDPClient client = new NTPUDPClient();
-			client.setDefaultTimeout(DEFAULT_TIMEOUT);
+	public static NtpSynchronizer getSynchronizer() {
+		return SynchronizerHolder.SYNCHRONIZER;
+	}
 
-			try {
-				TimeInfo info = client.getTime(InetAddress.getByName(host));
+	/**
+	 * 호출한 스레드에서 즉시 NTP 동기화를 수행한다. 평상시에는 daemon 스레드가 주기적으로 동기화하므로 호출할 필요가 없다.
+	 */
+	public static void resetCurrentTime() {
 
-				if (info != null) {
-					info.computeDetails();
-					timeInfo = info;
-					break;
-				}
-			} catch (IOException e) {
-				log.error("TimeUtils-resetCurrentTime :: {}", e.getMessage());
-			} finally {
-				client.close();
-			}
-		}
+		boolean success = getSynchronizer().synchronize();
 
-		log.debug("TimeUtils-resetCurrentTime :: timeInfo -> {}", timeInfo);
+		log.debug("TimeUtils-resetCurrentTime :: success -> {}, offset -> {}", success, getSynchronizer().getOffsetMillis());
 	}
 
+	/**
+	 * 마지막 동기화 결과와 drift 추정값으로 계산한 NTP offset(ms). 네트워크 I/O 없이 반환하며, 첫 동기화 전에는 0이다.
+	 */
 	public static long computeTimeGap() {
-		if (timeInfo == null) {
-			resetCurrentTime();
-		}
-
-		return timeInfo.getOffset() + timeInfo.getDelay();
+		return getSynchronizer().getOffsetMillis();
 	}
 
 	public static long currentTimeMillis() {
-		return System.currentTimeMillis() + computeTimeGap();
+		return getSynchronizer().currentTimeMillis();
+	}
+
+	/**
+	 * NTP 보정값을 점진적으로 반영하는 단조 증가 시각. 재동기화로 offset이 줄어도 뒤로 가지 않는다.
+	 *
+	 * @return 보정된 epoch millis
+	 */
+	public static long monotonicCurrentTimeMillis() {
+		return SynchronizerHolder.CLOCK.currentTimeMillis();
+	}
+
+	/**
+	 * 이벤트 순서 지정을 위한 hybrid logical clock 값. 호출마다 엄격하게 증가한다.
+	 *
+	 * @return (millis &lt;&lt; MonotonicClock.SEQUENCE_BITS | sequence)
+	 */
+	public static long nextTimestamp() {
+		return SynchronizerHolder.CLOCK.nextTimestamp();
+	}
+
+	/**
+	 * CachedClock의 저해상도 시각에 NTP 보정값을 더해 반환한다. 최대 CachedClock.RESOLUTION_MILLIS 만큼 늦을 수 있다.
+	 *
+	 * @return 보정된 epoch millis
+	 */
+	public static long coarseCurrentTimeMillis() {
+		return CachedClock.currentTimeMillis() + computeTimeGap();
 	}
 
 	public static void sleep(long time, TimeUnit timeUnit) {
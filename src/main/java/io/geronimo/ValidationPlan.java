@@ -0,0 +1,447 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import io.geronimo.ValidationUtils.RangeValidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 레코드의 필드별 검증 규칙을 한 번 컴파일하여 재사용하는 검증 계획.<br>
+ * 규칙은 필드 순서로 정렬된 평탄한 배열(필드 번호, 오류 코드, 검증기)로 컴파일되므로,
+ * 구분자로 이어진 행은 필드를 잘라내지 않고 행을 한 번 읽으면서 모든 규칙을 검사한다.<br><br>
+ *
+ * 한 필드에서 규칙이 실패하면 그 필드의 나머지 규칙은 건너뛰고, {@link Builder#failFast()}를 지정하면 행의 나머지 필드도 건너뛴다.
+ * 비어있는 필드는 {@link Builder#required} 규칙만 검사한다.
+ * 오류는 예외가 아니라 (행 번호, 필드 번호, 오류 코드) 목록으로 반환하며,
+ * 행이 {@value ValidationUtils#PARALLEL_THRESHOLD}개 이상이면 병렬로 검증한다.<br><br>
+ *
+ * ValidationPlan plan = ValidationPlan.builder(',')<br>
+ * &nbsp;&nbsp;.required(0, 100).byteLength(0, 1, 30, 101)<br>
+ * &nbsp;&nbsp;.rule(1, 200, ValidationUtils::isBizRegNumber)<br>
+ * &nbsp;&nbsp;.test(2, 300, ValidationUtils::isEmailAddress)<br>
+ * &nbsp;&nbsp;.build();<br>
+ * ValidationPlan.Result result = plan.validate(lines);
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+public final class ValidationPlan {
+
+	private static final CharSequence EMPTY = "";
+
+	private final char delimiter;
+
+	private final boolean failFast;
+
+	/** 규칙별 필드 번호, 오름차순 */
+	private final int[] columns;
+
+	/** 규칙별 오류 코드 */
+	private final int[] codes;
+
+	/** 규칙별 검증기 */
+	private final RangeValidator[] validators;
+
+	/** 비어있는 필드도 검사하는 규칙 여부 */
+	private final boolean[] required;
+
+	/**
+	 * 검증 규칙을 선언하는 builder. 같은 필드의 규칙은 선언한 순서대로 검사한다.
+	 */
+	public static final class Builder {
+
+		private final char delimiter;
+
+		private final List<Rule> rules = new ArrayList<>();
+
+		private boolean failFast;
+
+		private Builder(char delimiter) {
+			this.delimiter = delimiter;
+		}
+
+		/**
+		 * 필드가 비어있으면 code 오류
+		 */
+		public Builder required(int column, int code) {
+			return add(column, code, (value, from, to) -> from < to, true);
+		}
+
+		/**
+		 * 필드의 글자 수가 [min, max]를 벗어나면 code 오류
+		 */
+		public Builder length(int column, int min, int max, int code) {
+			return add(column, code, (value, from, to) -> to - from >= min && to - from <= max, false);
+		}
+
+		/**
+		 * 필드의 byte 단위 길이가 [min, max]를 벗어나면 code 오류. ValidationUtils.isRangeByteLength와 같이 계산한다.
+		 */
+		public Builder byteLength(int column, int min, int max, int code) {
+			return add(column, code, (value, from, to) -> {
+				int size = 0;
+
+				for (int i = from; i < to && size <= max; i++) {
+					size += StringUtils.getByteLength(value.charAt(i));
+				}
+
+				return size >= min && size <= max;
+			}, false);
+		}
+
+		/**
+		 * 필드 전체가 pattern에 맞지 않으면 code 오류
+		 */
+		public Builder pattern(int column, Pattern pattern, int code) {
+			return add(column, code, (value, from, to) -> pattern.matcher(value).region(from, to).matches(), false);
+		}
+
+		/**
+		 * 필드가 param(s-special character k-한글 e-영어 n-숫자)에 지정된 모든 종류의 문자를 포함하지 않으면 code 오류
+		 */
+		public Builder include(int column, String param, int code) {
+
+			int classes = ValidationUtils.charClassesOf(param);
+
+			return add(column, code, (value, from, to) -> ValidationUtils.isPatternIncludeAll(value, from, to, classes), false);
+		}
+
+		/**
+		 * 필드 구간을 검증기로 검사한다. ValidationUtils의 구간 검증 메소드를 그대로 사용할 수 있다.
+		 */
+		public Builder rule(int column, int code, RangeValidator validator) {
+			return add(column, code, validator, false);
+		}
+
+		/**
+		 * 필드를 문자열로 잘라내어 검사한다. 구간 검증 메소드가 없는 기존 검증 메소드에 사용한다.
+		 */
+		public Builder test(int column, int code, Predicate<String> predicate) {
+			return add(column, code, (value, from, to) -> predicate.test(value.subSequence(from, to).toString()), false);
+		}
+
+		/**
+		 * 행에서 첫 오류가 발생하면 그 행의 나머지 규칙을 검사하지 않는다.
+		 */
+		public Builder failFast() {
+			this.failFast = true;
+			return this;
+		}
+
+		private Builder add(int column, int code, RangeValidator validator, boolean required) {
+
+			if (column < 0) {
+				throw new IllegalArgumentException("Invalid column: " + column);
+			}
+
+			rules.add(new Rule(column, code, validator, required));
+			return this;
+		}
+
+		public ValidationPlan build() {
+
+			Rule[] sorted = rules.toArray(new Rule[rules.size()]);
+
+			// 안정 정렬이므로 같은 필드의 규칙은 선언 순서를 유지한다.
+			Arrays.sort(sorted, (a, b) -> Integer.compare(a.column, b.column));
+
+			return new ValidationPlan(delimiter, failFast, sorted);
+		}
+	}
+
+	private static final class Rule {
+
+		private final int column;
+
+		private final int code;
+
+		private final RangeValidator validator;
+
+		private final boolean required;
+
+		private Rule(int column, int code, RangeValidator validator, boolean required) {
+			this.column = column;
+			this.code = code;
+			this.validator = validator;
+			this.required = required;
+		}
+	}
+
+	/**
+	 * 검증 결과. 오류는 행 번호, 필드 번호 순으로 정렬되어 있다.
+	 */
+	public static final class Result {
+
+		private final int rowCount;
+
+		private final int[] rows;
+
+		private final int[] columns;
+
+		private final int[] codes;
+
+		private Result(int rowCount, int[] rows, int[] columns, int[] codes) {
+			this.rowCount = rowCount;
+			this.rows = rows;
+			this.columns = columns;
+			this.codes = codes;
+		}
+
+		/**
+		 * @return 검증한 행 수
+		 */
+		public int getRowCount() {
+			return rowCount;
+		}
+
+		/**
+		 * @return 오류 수
+		 */
+		public int size() {
+			return rows.length;
+		}
+
+		public boolean isValid() {
+			return rows.length == 0;
+		}
+
+		/**
+		 * @return index 번째 오류의 행 번호
+		 */
+		public int getRow(int index) {
+			return rows[index];
+		}
+
+		/**
+		 * @return index 번째 오류의 필드 번호
+		 */
+		public int getColumn(int index) {
+			return columns[index];
+		}
+
+		/**
+		 * @return index 번째 오류의 오류 코드
+		 */
+		public int getCode(int index) {
+			return codes[index];
+		}
+
+		/**
+		 * @return 오류가 있는 행의 index bitmap
+		 */
+		public BitSet getInvalidRows() {
+
+			BitSet invalid = new BitSet(rowCount);
+
+			for (int row : rows) {
+				invalid.set(row);
+			}
+
+			return invalid;
+		}
+	}
+
+	/**
+	 * 구간별 오류를 (행 번호 &lt;&lt; 32 | 규칙 index) 형태로 모으는 가변 배열
+	 */
+	private static final class Errors {
+
+		private long[] values = new long[16];
+
+		private int size;
+
+		private void add(int row, int rule) {
+
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = (long) row << 32 | rule;
+		}
+	}
+
+	private ValidationPlan(char delimiter, boolean failFast, Rule[] rules) {
+
+		this.delimiter = delimiter;
+		this.failFast = failFast;
+		this.columns = new int[rules.length];
+		this.codes = new int[rules.length];
+		this.validators = new RangeValidator[rules.length];
+		this.required = new boolean[rules.length];
+
+		for (int i = 0; i < rules.length; i++) {
+			columns[i] = rules[i].column;
+			codes[i] = rules[i].code;
+			validators[i] = rules[i].validator;
+			required[i] = rules[i].required;
+		}
+	}
+
+	/**
+	 * @param delimiter 행을 검증할 때 사용하는 필드 구분자
+	 * @return 검증 계획 builder
+	 */
+	public static Builder builder(char delimiter) {
+		return new Builder(delimiter);
+	}
+
+	/**
+	 * 구분자로 이어진 행 배열을 검증한다. 따옴표로 감싼 필드는 지원하지 않으며, 없는 필드와 null 행은 비어있는 필드로 본다.
+	 *
+	 * @param lines 행 배열
+	 * @return 검증 결과
+	 */
+	public Result validate(CharSequence[] lines) {
+		return run(lines.length, (errors, from, to) -> {
+			for (int i = from; i < to; i++) {
+				validateLine(i, lines[i] == null ? EMPTY : lines[i], errors);
+			}
+		});
+	}
+
+	/**
+	 * 필드 배열로 이루어진 레코드 배열을 검증한다. 없는 필드와 null 필드는 비어있는 필드로 본다.
+	 *
+	 * @param records 레코드 배열
+	 * @return 검증 결과
+	 */
+	public Result validate(CharSequence[][] records) {
+		return run(records.length, (errors, from, to) -> {
+			for (int i = from; i < to; i++) {
+				validateRecord(i, records[i], errors);
+			}
+		});
+	}
+
+	private interface ChunkTask {
+		void run(Errors errors, int from, int to);
+	}
+
+	private Result run(int rowCount, ChunkTask task) {
+
+		Errors[] chunks = new Errors[Math.max(1, Chunks.count(rowCount))];
+
+		Chunks.forEach(rowCount, ValidationUtils.PARALLEL_THRESHOLD, (from, to) -> {
+			Errors errors = new Errors();
+			task.run(errors, from, to);
+			chunks[from / Chunks.CHUNK_SIZE] = errors;
+		});
+
+		int size = 0;
+
+		for (Errors errors : chunks) {
+			size += errors == null ? 0 : errors.size;
+		}
+
+		int[] rows = new int[size];
+		int[] errorColumns = new int[size];
+		int[] errorCodes = new int[size];
+		int n = 0;
+
+		// 구간은 행 순서이고 구간 안의 오류도 행, 필드 순서이므로 이어 붙이기만 하면 정렬된다.
+		for (Errors errors : chunks) {
+			for (int i = 0; errors != null && i < errors.size; i++, n++) {
+				int rule = (int) errors.values[i];
+				rows[n] = (int) (errors.values[i] >>> 32);
+				errorColumns[n] = columns[rule];
+				errorCodes[n] = codes[rule];
+			}
+		}
+
+		return new Result(rowCount, rows, errorColumns, errorCodes);
+	}
+
+	private void validateLine(int row, CharSequence line, Errors errors) {
+
+		int length = line.length();
+		int column = 0;
+		int start = 0;
+		int end = indexOfDelimiter(line, 0, length);
+
+		for (int rule = 0; rule < columns.length; ) {
+
+			// 규칙이 필드 순서로 정렬되어 있으므로 행을 앞으로만 읽는다.
+			while (column < columns[rule] && end < length) {
+				start = end + 1;
+				end = indexOfDelimiter(line, start, length);
+				column++;
+			}
+
+			boolean missing = column < columns[rule];
+
+			rule = check(row, rule, line, missing ? length : start, missing ? length : end, errors);
+		}
+	}
+
+	private void validateRecord(int row, CharSequence[] record, Errors errors) {
+
+		for (int rule = 0; rule < columns.length; ) {
+
+			CharSequence value = record == null || columns[rule] >= record.length ? null : record[columns[rule]];
+
+			if (value == null) {
+				value = EMPTY;
+			}
+
+			rule = check(row, rule, value, 0, value.length(), errors);
+		}
+	}
+
+	/**
+	 * rule부터 같은 필드의 규칙을 검사하고 다음에 검사할 규칙 index를 반환한다.
+	 */
+	private int check(int row, int rule, CharSequence value, int from, int to, Errors errors) {
+
+		int column = columns[rule];
+
+		for (; rule < columns.length && columns[rule] == column; rule++) {
+
+			if (from == to && !required[rule]) {
+				continue;
+			}
+
+			if (!validators[rule].test(value, from, to)) {
+				errors.add(row, rule);
+				return failFast ? columns.length : skipColumn(rule, column);
+			}
+		}
+
+		return rule;
+	}
+
+	private int skipColumn(int rule, int column) {
+
+		while (rule < columns.length && columns[rule] == column) {
+			rule++;
+		}
+
+		return rule;
+	}
+
+	private int indexOfDelimiter(CharSequence line, int from, int length) {
+
+		while (from < length && line.charAt(from) != delimiter) {
+			from++;
+		}
+
+		return from;
+	}
+}
@@ -2,7 +2,10 @@ package io.geronimo;
 
 import lombok.experimental.UtilityClass;
 
-import java.util.regex.Matcher;
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -13,7 +16,121 @@ import java.util.regex.Pattern;
  */
 @UtilityClass
 public final class ValidationUtils {
-	
+
+	/** 대량 검증을 병렬로 처리하기 시작하는 최소 원소 수 */
+	public static final int PARALLEL_THRESHOLD = Chunks.PARALLEL_THRESHOLD;
+
+	/** 패턴 종류별 Pattern 캐시의 최대 크기 */
+	public static final int PATTERN_CACHE_SIZE = 256;
+
+	/** 주민등록번호 (xxxxxx-xxxxxxx) */
+	public static final Pattern RESIDENT_REG_NUMBER_PATTERN = Pattern.compile("^([0-9]{2}(?:0[1-9]|1[0-2])(?:0[1-9]|[12][0-9]|3[01]))-([1|2|3|4][0-9]{6})$");
+
+	/** 법인등록번호 (xxxxxx-xxxxxxx) */
+	public static final Pattern INCORP_CERT_NUMBER_PATTERN = Pattern.compile("^((\\d{6})-(\\d{7}))$");
+
+	/** 사업자등록번호 (xxx-xx-xxxxx) */
+	public static final Pattern BIZ_REG_NUMBER_PATTERN = Pattern.compile("^((\\d{3})-(\\d{2})-(\\d{5}))$");
+
+	/** 전화번호 */
+	public static final Pattern TELEPHONE_NUMBER_PATTERN = Pattern.compile("^\\d{2,4}-\\d{3,4}-\\d{4}$");
+
+	/** 휴대전화 번호 */
+	public static final Pattern CELLPHONE_NUMBER_PATTERN = Pattern.compile("^(01(0|1|6|7|8|9))-\\d{3,4}-\\d{4}$");
+
+	/** 이메일 주소 */
+	public static final Pattern EMAIL_ADDRESS_PATTERN = Pattern.compile("([\\w-\\.]+)@((?:[\\w]+\\.)+)([a-zA-Z]{2,4})$");
+
+	/** 카드번호 */
+	public static final Pattern CARD_NUMBER_PATTERN = Pattern.compile("^\\d{4}[\\s\\-]?\\d{4}[\\s\\-]?\\d{4}[\\s\\-]?\\d{4}$");
+
+	/** 특수문자 ~!@#$%&lt;&gt;^&amp;*()-=+_' */
+	public static final int CHAR_CLASS_SPECIAL = 1;
+
+	/** 한글 자모, 완성형 한글 */
+	public static final int CHAR_CLASS_KOREAN = 1 << 1;
+
+	/** 영문자 a-z, A-Z */
+	public static final int CHAR_CLASS_ENGLISH = 1 << 2;
+
+	/** 숫자 0-9 */
+	public static final int CHAR_CLASS_NUMBER = 1 << 3;
+
+	/** ASCII 문자별 CHAR_CLASS_* bitmap */
+	private static final byte[] ASCII_CHAR_CLASSES = new byte[128];
+
+	static {
+		for (char c : "~!@#$%<>^&*()-=+_'".toCharArray()) {
+			ASCII_CHAR_CLASSES[c] |= CHAR_CLASS_SPECIAL;
+		}
+		// 기존 정규식 [ㄱ-ㅎ|ㅏ-ㅣ|가-힣]은 '|'도 포함한다.
+		ASCII_CHAR_CLASSES['|'] |= CHAR_CLASS_KOREAN;
+
+		for (char c = 'a'; c <= 'z'; c++) {
+			ASCII_CHAR_CLASSES[c] |= CHAR_CLASS_ENGLISH;
+			ASCII_CHAR_CLASSES[c - 'a' + 'A'] |= CHAR_CLASS_ENGLISH;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			ASCII_CHAR_CLASSES[c] |= CHAR_CLASS_NUMBER;
+		}
+	}
+
+	private static final int[] BIZ_REG_NUMBER_WEIGHTS = { 1, 3, 7, 1, 3, 7, 1, 3, 5 };
+
+	private static final Pattern REGEX_META_CHAR_PATTERN = Pattern.compile("([\\[\\\\\\^\\$\\.\\|\\?\\*\\+\\(\\)])");
+
+	/** isRegexPatternMatch의 정규식별 Pattern */
+	private static final ConcurrentMap<String, Pattern> REGEX_PATTERNS = new ConcurrentHashMap<>();
+
+	/** isRegexPatternInclude의 정규식별 Pattern */
+	private static final ConcurrentMap<String, Pattern> INCLUDE_PATTERNS = new ConcurrentHashMap<>();
+
+	/** isUserFormat의 사용자 정의 패턴별 Pattern */
+	private static final ConcurrentMap<String, Pattern> USER_FORMAT_PATTERNS = new ConcurrentHashMap<>();
+
+	/** isPatternMatching의 wildcard 패턴별 Pattern */
+	private static final ConcurrentMap<String, Pattern> WILDCARD_PATTERNS = new ConcurrentHashMap<>();
+
+	/** isPatternMatching의 '*'만 사용하는 wildcard 패턴별 matcher */
+	private static final ConcurrentMap<String, WildcardPattern> WILDCARD_MATCHERS = new ConcurrentHashMap<>();
+
+	/**
+	 * 문자열의 [from, to) 구간을 검증하는 함수. 필드를 잘라내지 않고 원본 문자열 위에서 검증할 때 사용한다.
+	 */
+	@FunctionalInterface
+	public interface RangeValidator {
+		boolean test(CharSequence value, int from, int to);
+	}
+
+	/**
+	 * 정규식을 컴파일한 Pattern을 반환한다. 한 번 컴파일한 Pattern은 캐시하여 재사용한다.<br>
+	 * 캐시 크기가 PATTERN_CACHE_SIZE를 넘으면 더 이상 캐시하지 않고 매번 컴파일한다.
+	 *
+	 * @param regex 정규식
+	 * @return 컴파일된 Pattern
+	 */
+	public static Pattern getPattern(String regex) {
+		return getPattern(REGEX_PATTERNS, regex, Pattern::compile);
+	}
+
+	private static <T> T getPattern(ConcurrentMap<String, T> cache, String key, Function<String, T> compiler) {
+
+		T pattern = cache.get(key);
+
+		if (pattern != null) {
+			return pattern;
+		}
+
+		pattern = compiler.apply(key);
+
+		if (cache.size() < PATTERN_CACHE_SIZE) {
+			T existing = cache.putIfAbsent(key, pattern);
+			pattern = existing == null ? pattern : existing;
+		}
+
+		return pattern;
+	}
+
 	/**
 	 * 입력된 주민등록번호가 유효한 주민등록번호인지 검증한다.<br><br>
 	 * 
@@ -23,27 +140,53 @@ public final class ValidationUtils {
 	 * @return 주민등록번호가 유효하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isResidentRegNumber(String regno) {
-		
-		String pattern = "^([0-9]{2}(?:0[1-9]|1[0-2])(?:0[1-9]|[12][0-9]|3[01]))-([1|2|3|4][0-9]{6})$";
-		
-		if (!isRegexPatternMatch(regno, pattern)) {
+		return regno != null && isResidentRegNumber(regno, 0, regno.length());
+	}
+
+	/**
+	 * value의 [from, to) 구간이 유효한 주민등록번호(xxxxxx-xxxxxxx)인지 검증한다.<br>
+	 * 정규식, substring 없이 한 번의 순회로 형식과 검증번호를 함께 확인한다.
+	 *
+	 * @param value 검증할 문자열
+	 * @param from 시작 위치
+	 * @param to 종료 위치(미포함)
+	 * @return 주민등록번호가 유효하면 true를 그렇지 않으면 false를 반환
+	 */
+	public static boolean isResidentRegNumber(CharSequence value, int from, int to) {
+
+		if (to - from != 14 || value.charAt(from + 6) != '-') {
 			return false;
 		}
-		String replaceno = regno.replace("-", "");
 
 		int sum = 0;
-		int last = replaceno.charAt(12) - 0x30;
-		String bases = "234567892345";
+		int digit = 0;
+
+		for (int i = 0, weight = 2; i < 14; i++) {
+
+			if (i == 6) {
+				continue;
+			}
+
+			digit = value.charAt(from + i) - '0';
 
-		for (int index = 0; index < 12; index++) {
-			if (replaceno.substring(index, index + 1).isEmpty()) {
+			if (digit < 0 || digit > 9) {
 				return false;
 			}
-			sum += (replaceno.charAt(index) - 0x30) * (bases.charAt(index) - 0x30);
+			if (i < 13) {
+				sum += digit * weight;
+				weight = weight == 9 ? 2 : weight + 1;
+			}
+		}
+
+		int month = (value.charAt(from + 2) - '0') * 10 + value.charAt(from + 3) - '0';
+		int day = (value.charAt(from + 4) - '0') * 10 + value.charAt(from + 5) - '0';
+		int gender = value.charAt(from + 7) - '0';
+
+		if (month < 1 || month > 12 || day < 1 || day > 31 || gender < 1 || gender > 4) {
+			return false;
 		}
 
-		int mod = sum % 11;
-		return ((11 - mod) % 10 == last) ? true : false;
+		return (11 - sum % 11) % 10 == digit;
 	}
 
 	/**
@@ -55,24 +198,45 @@ public final class ValidationUtils {
 	 * @return 법인등록번호가 유효하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isIncorpCertNumber(String corpNumber) {
-		String pattern = "^((\\d{6})-(\\d{7}))$";
+		return corpNumber != null && isIncorpCertNumber(corpNumber, 0, corpNumber.length());
+	}
+
+	/**
+	 * value의 [from, to) 구간이 유효한 법인등록번호(xxxxxx-xxxxxxx)인지 검증한다.
+	 *
+	 * @param value 검증할 문자열
+	 * @param from 시작 위치
+	 * @param to 종료 위치(미포함)
+	 * @return 법인등록번호가 유효하면 true를 그렇지 않으면 false를 반환
+	 */
+	public static boolean isIncorpCertNumber(CharSequence value, int from, int to) {
 
-		if (!isRegexPatternMatch(corpNumber, pattern)) {
+		if (to - from != 14 || value.charAt(from + 6) != '-') {
 			return false;
 		}
-		String replaceno = corpNumber.replace("-", "");
 
 		int checkSum = 0;
+		int digit = 0;
 
-		for (int index = 0; index < 12; index++) {
-			checkSum += (Character.getNumericValue(replaceno.charAt(index)) * ((index % 2 == 0) ? 1 : 2));
-		}
+		// 검증번호를 제외한 12자리에 1, 2를 번갈아 곱한다.
+		for (int i = 0, n = 0; i < 14; i++) {
+
+			if (i == 6) {
+				continue;
+			}
 
-		if ((10 - (checkSum % 10)) % 10 == Character.getNumericValue(replaceno.charAt(12))) {
-			return true;			
-		} else {
-			return false;			
+			digit = value.charAt(from + i) - '0';
+
+			if (digit < 0 || digit > 9) {
+				return false;
+			}
+			if (n < 12) {
+				checkSum += digit * ((n & 1) + 1);
+			}
+			n++;
 		}
+
+		return (10 - checkSum % 10) % 10 == digit;
 	}
 
 	/**
@@ -84,27 +248,126 @@ public final class ValidationUtils {
 	 * @return 사업자등록번호가 유효하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isBizRegNumber(String bizNumber) {
-		String pattern = "^((\\d{3})-(\\d{2})-(\\d{5}))$";
+		return bizNumber != null && isBizRegNumber(bizNumber, 0, bizNumber.length());
+	}
+
+	/**
+	 * value의 [from, to) 구간이 유효한 사업자등록번호(xxx-xx-xxxxx)인지 검증한다.
+	 *
+	 * @param value 검증할 문자열
+	 * @param from 시작 위치
+	 * @param to 종료 위치(미포함)
+	 * @return 사업자등록번호가 유효하면 true를 그렇지 않으면 false를 반환
+	 */
+	public static boolean isBizRegNumber(CharSequence value, int from, int to) {
 
-		if (!isRegexPatternMatch(bizNumber, pattern)) {
+		if (to - from != 12 || value.charAt(from + 3) != '-' || value.charAt(from + 6) != '-') {
 			return false;
 		}
-		String replaceno = bizNumber.replace("-", "");
 
 		int checkSum = 0;
-		int[] checkDigit = {1, 3, 7, 1, 3, 7, 1, 3, 5};
+		int digit = 0;
 
-		for (int i = 0; i < 9; i++) {
-			checkSum += (Character.getNumericValue(replaceno.charAt(i)) * checkDigit[i]);
-		}
+		for (int i = 0, n = 0; i < 12; i++) {
+
+			if (i == 3 || i == 6) {
+				continue;
+			}
 
-		checkSum += (Character.getNumericValue(replaceno.charAt(8)) * 5) / 10;
+			digit = value.charAt(from + i) - '0';
 
-		if ((10 - (checkSum % 10)) % 10 == Character.getNumericValue(replaceno.charAt(9))) {
-			return true;			
-		} else {
-			return false;			
+			if (digit < 0 || digit > 9) {
+				return false;
+			}
+			if (n < 9) {
+				checkSum += digit * BIZ_REG_NUMBER_WEIGHTS[n];
+			}
+			if (n == 8) {
+				checkSum += digit * 5 / 10;
+			}
+			n++;
 		}
+
+		return (10 - checkSum % 10) % 10 == digit;
+	}
+
+	/**
+	 * 문자열 배열의 각 원소를 검증하여 유효한 원소의 위치를 bitmap으로 반환한다.
+	 * 원소가 {@value #PARALLEL_THRESHOLD}개 이상이면 병렬로 검증하며, null 원소는 유효하지 않은 것으로 본다.<br><br>
+	 *
+	 * ValidationUtils.validate(regnos, ValidationUtils::isResidentRegNumber)
+	 *
+	 * @param values 검증할 문자열 배열
+	 * @param validator 구간 검증기
+	 * @return 유효한 원소의 index bitmap
+	 */
+	public static BitSet validate(CharSequence[] values, RangeValidator validator) {
+
+		long[] words = new long[(values.length + 63) >>> 6];
+
+		Chunks.forEach(values.length, PARALLEL_THRESHOLD, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				CharSequence value = values[i];
+
+				if (value != null && validator.test(value, 0, value.length())) {
+					words[i >>> 6] |= 1L << i;
+				}
+			}
+		});
+
+		return BitSet.valueOf(words);
+	}
+
+	/**
+	 * CSV 행 배열에서 column 번째 필드를 잘라내지 않고 검증하여, 유효한 행의 위치를 bitmap으로 반환한다.
+	 * 따옴표로 감싼 필드는 지원하지 않으며, 필드가 없는 행은 유효하지 않은 것으로 본다.<br><br>
+	 *
+	 * ValidationUtils.validateColumn(lines, 2, ',', ValidationUtils::isBizRegNumber)
+	 *
+	 * @param lines CSV 행 배열
+	 * @param column 0부터 시작하는 필드 번호
+	 * @param delimiter 필드 구분자
+	 * @param validator 구간 검증기
+	 * @return 유효한 행의 index bitmap
+	 */
+	public static BitSet validateColumn(CharSequence[] lines, int column, char delimiter, RangeValidator validator) {
+
+		long[] words = new long[(lines.length + 63) >>> 6];
+
+		Chunks.forEach(lines.length, PARALLEL_THRESHOLD, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				CharSequence line = lines[i];
+
+				if (line == null) {
+					continue;
+				}
+
+				int start = 0;
+				int length = line.length();
+
+				for (int n = 0; n < column && start <= length; start++) {
+					if (start == length || line.charAt(start) == delimiter) {
+						n++;
+					}
+				}
+
+				if (start > length) {
+					continue;
+				}
+
+				int end = start;
+
+				while (end < length && line.charAt(end) != delimiter) {
+					end++;
+				}
+
+				if (validator.test(line, start, end)) {
+					words[i >>> 6] |= 1L << i;
+				}
+			}
+		});
+
+		return BitSet.valueOf(words);
 	}
 
 	/**
@@ -116,8 +379,7 @@ public final class ValidationUtils {
 	 * @return 전화번호가 유효하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isTelephoneNumber(String phoneNumber) {
-		String pattern = "^\\d{2,4}-\\d{3,4}-\\d{4}$";
-		return isRegexPatternMatch(phoneNumber, pattern) ? true : false;
+		return TELEPHONE_NUMBER_PATTERN.matcher(phoneNumber).matches();
 	}
 
 	/**
@@ -129,8 +391,7 @@ public final class ValidationUtils {
 	 * @return 핸드폰 번호가 유효하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isCellphoneNumber(String cellPhoneNumber) {
-		String pattern = "^(01(0|1|6|7|8|9))-\\d{3,4}-\\d{4}$";
-		return isRegexPatternMatch(cellPhoneNumber, pattern) ? true : false;
+		return CELLPHONE_NUMBER_PATTERN.matcher(cellPhoneNumber).matches();
 	}
 
 	/**
@@ -140,8 +401,7 @@ public final class ValidationUtils {
 	 * @return 이메일 주소가 유효하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isEmailAddress(String email) {
-		String pattern = "([\\w-\\.]+)@((?:[\\w]+\\.)+)([a-zA-Z]{2,4})$";
-		return isRegexPatternMatch(email, pattern) ? true : false;
+		return EMAIL_ADDRESS_PATTERN.matcher(email).matches();
 	}
 
 	/**
@@ -153,8 +413,49 @@ public final class ValidationUtils {
 	 * @return 카드번호의 자릿수가 유효하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isCardNumber(String cardNumber) {
-		String pattern = "^\\d{4}[\\s\\-]?\\d{4}[\\s\\-]?\\d{4}[\\s\\-]?\\d{4}$";
-		return isRegexPatternMatch(cardNumber, pattern) ? true : false;
+		return CARD_NUMBER_PATTERN.matcher(cardNumber).matches();
+	}
+
+	/**
+	 * 카드번호가 Luhn(mod 10) 검증을 통과하는지 확인한다. 숫자 사이의 공백과 '-'는 건너뛰며, 숫자는 12~19자리여야 한다.<br><br>
+	 *
+	 * ValidationUtils.isLuhnNumber("4111-1111-1111-1111") = true
+	 *
+	 * @param cardNumber 카드번호
+	 * @return Luhn 검증을 통과하면 true를 그렇지 않으면 false를 반환
+	 */
+	public static boolean isLuhnNumber(CharSequence cardNumber) {
+		return cardNumber != null && isLuhnNumber(cardNumber, 0, cardNumber.length());
+	}
+
+	public static boolean isLuhnNumber(CharSequence value, int from, int to) {
+
+		int sum = 0;
+		int digits = 0;
+
+		// 끝자리부터 읽으며 짝수 번째 숫자를 두 배로 한다.
+		for (int i = to - 1; i >= from; i--) {
+
+			char c = value.charAt(i);
+
+			if (c == ' ' || c == '-') {
+				continue;
+			}
+
+			int digit = c - '0';
+
+			if (digit < 0 || digit > 9) {
+				return false;
+			}
+
+			if ((digits++ & 1) == 1) {
+				digit <<= 1;
+				digit -= digit > 9 ? 9 : 0;
+			}
+			sum += digit;
+		}
+
+		return digits >= 12 && digits <= 19 && sum % 10 == 0;
 	}
 
 	/**
@@ -189,7 +490,7 @@ public final class ValidationUtils {
 
 	
 	private static String regexMetaCharEscape(String orgPattern) {
-		return orgPattern.replaceAll("([\\[\\\\\\^\\$\\.\\|\\?\\*\\+\\(\\)])", "\\\\$1");
+		return REGEX_META_CHAR_PATTERN.matcher(orgPattern).replaceAll("\\\\$1");
 	}
 
 	/**
@@ -204,9 +505,13 @@ public final class ValidationUtils {
 	 * @return 사용자 정의 패턴에 맞는 글자이면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isUserFormat(String str, String pattern) {
-		String metaChange = regexMetaCharEscape(pattern);
-		String regexChange = metaChange.replaceAll("#", "\\\\d").replaceAll("S", "[a-zA-Z]");
-		return str.matches(regexChange);
+		Pattern userFormat = getPattern(USER_FORMAT_PATTERNS, pattern, key -> {
+			String metaChange = regexMetaCharEscape(key);
+			String regexChange = metaChange.replace("#", "\\d").replace("S", "[a-zA-Z]");
+			return Pattern.compile(regexChange);
+		});
+
+		return userFormat.matcher(str).matches();
 	}
 
 	/**
@@ -221,13 +526,12 @@ public final class ValidationUtils {
 	 * @return 문자열이 정규식 패턴에 맞으면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isRegexPatternMatch(String str, String pattern) {
-		Pattern p = Pattern.compile(pattern);
-		Matcher m = p.matcher(str);
-		return m.matches();
+		return getPattern(pattern).matcher(str).matches();
 	}
 
 	/**
-	 * 문자열이 입력된 정규식 패턴에 맞는지 체크한다. *는 전체 문자를 표현한다.<br><br>
+	 * 문자열이 입력된 정규식 패턴에 맞는지 체크한다. *는 전체 문자를 표현한다.<br>
+	 * 패턴에 * 외의 정규식 메타 문자가 없으면 정규식 대신 선형 시간 wildcard matcher를 사용한다.<br><br>
 	 *
 	 * ValidationUtils.isPatternMatching("abc-def', "*-*") 	= true<br>
 	 * ValidationUtils.isPatternMatching("abc", "*-*") 	    = false
@@ -237,20 +541,35 @@ public final class ValidationUtils {
 	 * @return 문자열이 입력된 정규식 패턴에 일치하면 true를 그렇지 않으면 false를 반환
 	 */
 	public static boolean isPatternMatching(String str, String pattern) {
-		// if url has wild key, i.e. "*", convert it to ".*" so that we can
-		// perform regex matching
-		if (pattern.indexOf('*') >= 0) {
-			pattern = pattern.replaceAll("\\*", ".*");
+
+		if (!hasRegexMetaChar(pattern)) {
+			return getPattern(WILDCARD_MATCHERS, pattern, WildcardPattern::compile).matches(str);
 		}
 
-		pattern = "^" + pattern + "$";
+		Pattern wildcard = getPattern(WILDCARD_PATTERNS, pattern, key -> {
+			// if url has wild key, i.e. "*", convert it to ".*" so that we can
+			// perform regex matching
+			return Pattern.compile("^" + key.replace("*", ".*") + "$");
+		});
 
-		return Pattern.matches(pattern, str);
+		return wildcard.matcher(str).matches();
+	}
+
+	private static boolean hasRegexMetaChar(String pattern) {
+
+		for (int i = 0; i < pattern.length(); i++) {
+			if ("\\[]{}()^$.|?+".indexOf(pattern.charAt(i)) >= 0) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	/**
 	 * 입력된 문자열이 주어진 필터 패턴에 맞는 문자열인지 확인한다.<br>
-	 * s-special character k-한글 e-영어 n-숫자<br><br>
+	 * s-special character k-한글 e-영어 n-숫자<br>
+	 * 필터 패턴에 여러 문자가 있으면 s, k, e, n 순서로 처음 지정된 종류만 확인한다.<br><br>
 	 * 
 	 * ValidationUtils.isPatternInclude("asdf@5456", "s") = true<br>
 	 * ValidationUtils.isPatternInclude("-", "s") = true<br>
@@ -267,19 +586,84 @@ public final class ValidationUtils {
 	 */
 	public static boolean isPatternInclude(String str, String param) {
 
-		if (param.indexOf("s") >= 0) {
-			return isRegexPatternMatch(str, ".*[~!@\\#$%<>^&*\\()\\-=+_\\'].*");
+		int classes = charClassesOf(param);
+
+		// 가장 낮은 bit가 s, k, e, n 중 처음 지정된 종류이다.
+		int first = Integer.lowestOneBit(classes);
+
+		return first == 0 || getCharClasses(str, 0, str.length(), first) != 0;
+	}
+
+	/**
+	 * 입력된 문자열이 필터 패턴에 지정된 모든 종류의 문자를 포함하는지 문자열을 한 번만 읽어 확인한다.<br><br>
+	 *
+	 * ValidationUtils.isPatternIncludeAll("asdf@5456", "sen") = true<br>
+	 * ValidationUtils.isPatternIncludeAll("asdf5456", "sen") = false
+	 *
+	 * @param str 체크할 문자열
+	 * @param param 필터 패턴 (s-special character k-한글 e-영어 n-숫자)
+	 * @return 지정된 모든 종류의 문자를 포함하면 true를 그렇지 않으면 false를 반환
+	 */
+	public static boolean isPatternIncludeAll(String str, String param) {
+		return isPatternIncludeAll(str, 0, str.length(), charClassesOf(param));
+	}
+
+	/**
+	 * [from, to) 구간이 classes(CHAR_CLASS_* 조합)의 모든 종류의 문자를 포함하는지 확인한다.
+	 */
+	public static boolean isPatternIncludeAll(CharSequence value, int from, int to, int classes) {
+		return getCharClasses(value, from, to, classes) == classes;
+	}
+
+	/**
+	 * [from, to) 구간에 포함된 문자 종류 중 classes에 지정된 종류를 CHAR_CLASS_* 조합으로 반환한다.
+	 * ASCII 문자는 미리 계산한 bitmap으로 확인하며, 지정된 종류를 모두 찾으면 바로 반환한다.
+	 *
+	 * @param value 문자열
+	 * @param from 시작 위치
+	 * @param to 끝 위치(미포함)
+	 * @param classes 찾을 문자 종류
+	 * @return 포함된 문자 종류
+	 */
+	public static int getCharClasses(CharSequence value, int from, int to, int classes) {
+
+		int found = 0;
+
+		for (int i = from; i < to && found != classes; i++) {
+
+			char c = value.charAt(i);
+
+			if (c < 128) {
+				found |= ASCII_CHAR_CLASSES[c] & classes;
+			} else if (c >= '\u3131' && c <= '\u3163' || c >= '\uAC00' && c <= '\uD7A3') {
+				found |= CHAR_CLASS_KOREAN & classes;
+			}
 		}
-		if (param.indexOf("k") >= 0) {
-			return isRegexPatternMatch(str, ".*[ㄱ-ㅎ|ㅏ-ㅣ|가-힣].*");
+
+		return found;
+	}
+
+	/**
+	 * 필터 패턴을 CHAR_CLASS_* 조합으로 변환한다.
+	 */
+	static int charClassesOf(String param) {
+
+		int classes = 0;
+
+		if (param.indexOf('s') >= 0) {
+			classes |= CHAR_CLASS_SPECIAL;
 		}
-		if (param.indexOf("e") >= 0) {
-			return isRegexPatternMatch(str, ".*[a-zA-Z].*");
+		if (param.indexOf('k') >= 0) {
+			classes |= CHAR_CLASS_KOREAN;
 		}
-		if (param.indexOf("n") >= 0) {
-			return isRegexPatternMatch(str, ".*\\d.*");
+		if (param.indexOf('e') >= 0) {
+			classes |= CHAR_CLASS_ENGLISH;
 		}
-		return true;
+		if (param.indexOf('n') >= 0) {
+			classes |= CHAR_CLASS_NUMBER;
+		}
+
+		return classes;
 	}
 
 	/**
@@ -292,6 +676,6 @@ public final class ValidationUtils {
 	 * @return 전체 문자열 중에 일부 문자열이 패턴에 일치하면 true를 그렇지 앟으면 false를 반환
 	 */
 	public static boolean isRegexPatternInclude(String str, String pattern) {
-		return isRegexPatternMatch(str, ".*" + pattern + ".*");
+		return getPattern(INCLUDE_PATTERNS, pattern, key -> Pattern.compile(".*" + key + ".*")).matcher(str).matches();
 	}
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * '*'(0개 이상의 임의 문자)만 사용하는 wildcard 패턴의 선형 시간 matcher.<br>
+ * 패턴을 '*'로 나눈 조각 중 첫 조각은 접두어, 마지막 조각은 접미어로 비교하고,
+ * 가운데 조각은 앞에서부터 가장 먼저 나오는 위치를 KMP로 찾는다. '*'만 있는 패턴은 가장 왼쪽 일치가 항상 답이 되므로 되돌아가지 않는다.
+ * 따라서 matches는 O(문자열 길이 + 패턴 길이)이며 backtracking이 없다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+final class WildcardPattern {
+
+	private final String prefix;
+
+	private final String suffix;
+
+	/** '*'가 없으면 false, 전체 문자열이 prefix와 같아야 한다. */
+	private final boolean wildcard;
+
+	private final String[] segments;
+
+	/** 가운데 조각별 KMP 실패 함수 */
+	private final int[][] failures;
+
+	private WildcardPattern(String prefix, String suffix, boolean wildcard, String[] segments) {
+
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.wildcard = wildcard;
+		this.segments = segments;
+		this.failures = new int[segments.length][];
+
+		for (int i = 0; i < segments.length; i++) {
+			failures[i] = failure(segments[i]);
+		}
+	}
+
+	static WildcardPattern compile(String pattern) {
+
+		int first = pattern.indexOf('*');
+
+		if (first < 0) {
+			return new WildcardPattern(pattern, "", false, new String[0]);
+		}
+
+		int last = pattern.lastIndexOf('*');
+		List<String> segments = new ArrayList<>();
+
+		for (int start = first + 1; start <= last; ) {
+			int end = pattern.indexOf('*', start);
+
+			if (end > start) {
+				segments.add(pattern.substring(start, end));
+			}
+			start = end + 1;
+		}
+
+		return new WildcardPattern(pattern.substring(0, first), pattern.substring(last + 1), true, segments.toArray(new String[segments.size()]));
+	}
+
+	boolean matches(CharSequence value) {
+		return matches(value, 0, value.length());
+	}
+
+	boolean matches(CharSequence value, int from, int to) {
+
+		if (!wildcard) {
+			return to - from == prefix.length() && regionMatches(value, from, prefix);
+		}
+
+		int end = to - suffix.length();
+
+		if (end - from < prefix.length() || !regionMatches(value, from, prefix) || !regionMatches(value, end, suffix)) {
+			return false;
+		}
+
+		int position = from + prefix.length();
+
+		for (int i = 0; i < segments.length; i++) {
+			position = indexOf(value, position, end, segments[i], failures[i]);
+
+			if (position < 0) {
+				return false;
+			}
+			position += segments[i].length();
+		}
+
+		return true;
+	}
+
+	private static boolean regionMatches(CharSequence value, int offset, String part) {
+
+		for (int i = 0; i < part.length(); i++) {
+			if (value.charAt(offset + i) != part.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * [from, to) 안에서 segment가 처음 나오는 위치를 KMP로 찾는다.
+	 */
+	private static int indexOf(CharSequence value, int from, int to, String segment, int[] failure) {
+
+		int matched = 0;
+
+		for (int i = from; i < to; i++) {
+
+			char c = value.charAt(i);
+
+			while (matched > 0 && segment.charAt(matched) != c) {
+				matched = failure[matched - 1];
+			}
+
+			if (segment.charAt(matched) == c && ++matched == segment.length()) {
+				return i - matched + 1;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int[] failure(String segment) {
+
+		int[] failure = new int[segment.length()];
+
+		for (int i = 1, k = 0; i < segment.length(); i++) {
+
+			while (k > 0 && segment.charAt(i) != segment.charAt(k)) {
+				k = failure[k - 1];
+			}
+			if (segment.charAt(i) == segment.charAt(k)) {
+				k++;
+			}
+			failure[i] = k;
+		}
+
+		return failure;
+	}
+}
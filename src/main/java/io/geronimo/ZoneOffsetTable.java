@@ -0,0 +1,184 @@
+/*
+ * Copyright 2002-2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.geronimo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ZoneId의 offset 변경 이력(transition)을 미리 배열로 펼쳐 둔 테이블.<br>
+ * epoch millis와 local millis 사이의 변환을 이진 탐색과 덧셈만으로 수행하며, 결과는 ZonedDateTime과 같다.<br>
+ * 테이블은 ZoneId별로 한 번만 만들어 캐시하고, {@value #LAST_CACHED_YEAR}년 이후의 값은 ZoneRules로 위임한다.
+ *
+ * @author tw.jang
+ * @since 1.0.1
+ */
+public final class ZoneOffsetTable {
+
+	/** 테이블에 펼쳐 두는 마지막 연도 */
+	public static final int LAST_CACHED_YEAR = 2100;
+
+	private static final long MILLIS_PER_SECOND = 1000L;
+
+	private static final long LAST_CACHED_EPOCH_SECOND = LocalDateTime.of(LAST_CACHED_YEAR + 1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+	private static final Instant FIRST_SEARCH_INSTANT = Instant.parse("1800-01-01T00:00:00Z");
+
+	private static final ConcurrentMap<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+
+	private final ZoneId zone;
+
+	private final ZoneRules rules;
+
+	/** transition 시각(epoch second), 오름차순 */
+	private final long[] transitions;
+
+	/** transition 직전 offset(초) */
+	private final int[] offsetsBefore;
+
+	/** transition 이후 offset(초) */
+	private final int[] offsetsAfter;
+
+	/** transition 경계의 local second (gap, overlap 구간의 시작) */
+	private final long[] localStarts;
+
+	/** transition이 없을 때 또는 첫 transition 이전의 offset(초) */
+	private final int initialOffset;
+
+	private ZoneOffsetTable(ZoneId zone) {
+
+		this.zone = zone;
+		this.rules = zone.getRules();
+
+		List<ZoneOffsetTransition> list = new ArrayList<>(rules.getTransitions());
+		ZoneOffsetTransition next = list.isEmpty()
+				? rules.nextTransition(FIRST_SEARCH_INSTANT)
+				: rules.nextTransition(list.get(list.size() - 1).getInstant());
+
+		while (next != null && next.toEpochSecond() < LAST_CACHED_EPOCH_SECOND) {
+			list.add(next);
+			next = rules.nextTransition(next.getInstant());
+		}
+
+		int size = list.size();
+
+		this.transitions = new long[size];
+		this.offsetsBefore = new int[size];
+		this.offsetsAfter = new int[size];
+		this.localStarts = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			ZoneOffsetTransition transition = list.get(i);
+			transitions[i] = transition.toEpochSecond();
+			offsetsBefore[i] = transition.getOffsetBefore().getTotalSeconds();
+			offsetsAfter[i] = transition.getOffsetAfter().getTotalSeconds();
+			localStarts[i] = transitions[i] + Math.min(offsetsBefore[i], offsetsAfter[i]);
+		}
+
+		this.initialOffset = size == 0 ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : offsetsBefore[0];
+	}
+
+	/**
+	 * ZoneId에 해당하는 테이블을 반환한다. 처음 요청될 때 한 번만 생성된다.
+	 *
+	 * @param zone 시간대
+	 * @return offset 테이블
+	 */
+	public static ZoneOffsetTable of(ZoneId zone) {
+
+		ZoneOffsetTable table = TABLES.get(zone);
+
+		return table != null ? table : TABLES.computeIfAbsent(zone, ZoneOffsetTable::new);
+	}
+
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	/**
+	 * epoch millis 시점의 offset(초)을 반환한다.
+	 */
+	public int getOffsetSeconds(long epochMillis) {
+
+		long epochSecond = Math.floorDiv(epochMillis, MILLIS_PER_SECOND);
+
+		if (epochSecond >= LAST_CACHED_EPOCH_SECOND) {
+			return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+		}
+
+		int index = floorIndex(transitions, epochSecond);
+
+		return index < 0 ? initialOffset : offsetsAfter[index];
+	}
+
+	/**
+	 * epoch millis를 이 시간대의 local millis(local date-time을 UTC로 본 millis)로 변환한다.
+	 */
+	public long toLocalMillis(long epochMillis) {
+		return epochMillis + getOffsetSeconds(epochMillis) * MILLIS_PER_SECOND;
+	}
+
+	/**
+	 * local millis를 epoch millis로 변환한다.<br>
+	 * ZonedDateTime.of와 같이 gap 구간은 gap 길이만큼 뒤로 밀고, overlap 구간은 이전 offset을 사용한다.
+	 */
+	public long toEpochMillis(long localMillis) {
+
+		long localSecond = Math.floorDiv(localMillis, MILLIS_PER_SECOND);
+
+		if (localSecond >= LAST_CACHED_EPOCH_SECOND) {
+			LocalDateTime local = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+			return local.atZone(zone).toEpochSecond() * MILLIS_PER_SECOND + Math.floorMod(localMillis, MILLIS_PER_SECOND);
+		}
+
+		int index = floorIndex(localStarts, localSecond);
+
+		if (index < 0) {
+			return localMillis - initialOffset * MILLIS_PER_SECOND;
+		}
+
+		long localEnd = transitions[index] + Math.max(offsetsBefore[index], offsetsAfter[index]);
+		int offset = localSecond < localEnd ? offsetsBefore[index] : offsetsAfter[index];
+
+		return localMillis - offset * MILLIS_PER_SECOND;
+	}
+
+	private static int floorIndex(long[] values, long key) {
+
+		int low = 0;
+		int high = values.length - 1;
+
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+
+			if (values[mid] <= key) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+
+		return high;
+	}
+}
@@ -46,4 +46,34 @@ class AgeUtilsTest extends Specification {
 			'19740608' | '20140607' || 41
 	}
 
+	/**
+	 * 생년월일 배열의 만 나이, 구간별 인원수, 나이 조건 bitmap을 getAge와 비교한다. 병렬 분할이 일어나도록 충분히 큰 배열을 사용한다.
+	 */
+	def "getAges(), countByAgeBand(), filterByAge()에 대한 성공 케이스"() {
+
+		setup:
+			Random random = new Random(42)
+			int size = AgeUtils.PARALLEL_THRESHOLD * 2 + 17
+			int[] birthdates = new int[size]
+			for (int i = 0; i < size; i++) {
+				birthdates[i] = PackedDate.plusDays(19300101, random.nextInt(30000))
+			}
+			int baseDate = 20140608
+
+		when:
+			int[] ages = AgeUtils.getAges(birthdates, baseDate)
+			long[] counts = AgeUtils.countByAgeBand(birthdates, baseDate, 19, 30, 65)
+			BitSet adults = AgeUtils.filterByAge(birthdates, baseDate, 19, Integer.MAX_VALUE)
+			BitSet thirties = AgeUtils.filterByAge(birthdates, baseDate, 30, 39)
+
+			List<Integer> expected = birthdates.collect { AgeUtils.getAge(it as String, baseDate as String) }
+
+		then:
+			ages as List == expected
+			counts as List == [expected.count { it < 19 }, expected.count { it >= 19 && it < 30 },
+							   expected.count { it >= 30 && it < 65 }, expected.count { it >= 65 }]
+			adults.cardinality() == expected.count { it >= 19 }
+			(0..<size).every { adults.get(it) == expected[it] >= 19 }
+			(0..<size).every { thirties.get(it) == (expected[it] >= 30 && expected[it] <= 39) }
+	}
 }
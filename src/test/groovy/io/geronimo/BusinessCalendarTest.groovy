@@ -0,0 +1,122 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.DayOfWeek
+import java.time.LocalDate
+
+class BusinessCalendarTest extends Specification {
+
+	BusinessCalendar calendar = BusinessCalendar.getDefault()
+
+	def "isBusinessDay()"() {
+
+		expect:
+			calendar.isBusinessDay(date) == business
+		where:
+			date     || business
+			20240208 || true
+			20240209 || false  // 설날 연휴
+			20240212 || false  // 대체공휴일
+			20240213 || true
+			20240210 || false  // 토요일
+			20250303 || false  // 대체공휴일(삼일절)
+			20251008 || false  // 대체공휴일(추석)
+			20261231 || true
+			20270101 || false  // 신정
+			20270209 || false  // 대체공휴일(설날)
+			20271227 || false  // 대체공휴일(기독탄신일)
+			20271231 || true
+	}
+
+	def "addBusinessDays()"() {
+
+		expect:
+			calendar.addBusinessDays(date, days) == result
+		where:
+			date     | days || result
+			20240208 | 1    || 20240213
+			20240213 | -1   || 20240208
+			20240210 | 1    || 20240213
+			20240210 | -1   || 20240208
+			20240208 | 0    || 20240208
+			20251002 | 1    || 20251010
+			20261230 | 2    || 20270104
+			20270205 | 1    || 20270210
+	}
+
+	def "getBusinessDays()"() {
+
+		expect:
+			calendar.getBusinessDays(start, end) == days
+		where:
+			start    | end      || days
+			20240205 | 20240213 || 4
+			20240213 | 20240205 || -4
+			20240101 | 20250101 || 246
+			20270101 | 20271231 || 247
+			20270101 | 20280101 || 248
+			20280101 | 20271201 || -22
+	}
+
+	def "주말만 있는 달력은 평일 수와 같음"() {
+
+		setup:
+			BusinessCalendar weekdays = BusinessCalendar.of(2000, 2030)
+			LocalDate start = LocalDate.of(2000, 1, 1)
+			int expected = 0
+
+		when:
+			boolean consistent = true
+			for (LocalDate date = start; date.year <= 2030; date = date.plusDays(1)) {
+				boolean business = date.dayOfWeek != DayOfWeek.SATURDAY && date.dayOfWeek != DayOfWeek.SUNDAY
+				consistent &= weekdays.isBusinessDay(date) == business
+				if (business) {
+					expected++
+					consistent &= weekdays.addBusinessDays(start, expected) == date
+				}
+			}
+
+		then:
+			consistent
+			weekdays.getBusinessDays(20000101, 20301231) == expected - 1
+	}
+
+	def "load() - 로컬 공휴일 파일"() {
+
+		setup:
+			Path file = Files.createTempFile("holidays", ".txt")
+			file.write("# test\n20300101 신정\n20301225 성탄절 # 주석\n", "UTF-8")
+
+		when:
+			BusinessCalendar loaded = BusinessCalendar.load(file)
+			Files.delete(file)
+
+		then:
+			loaded.firstYear == 2030
+			loaded.lastYear == 2030
+			!loaded.isBusinessDay(20300101)
+			loaded.isBusinessDay(20300102)
+			loaded.holidays[20301225] == '성탄절'
+	}
+
+	def "범위를 벗어난 일자"() {
+
+		when:
+			calendar.isBusinessDay(20220101)
+		then:
+			thrown(IllegalArgumentException)
+
+		when: '종료일은 달력 다음 날까지만 허용한다.'
+			calendar.getBusinessDays(20271201, 20280102)
+		then:
+			thrown(IllegalArgumentException)
+
+		when: '달력 다음 날은 경계로만 쓸 수 있다.'
+			calendar.isBusinessDay(20280101)
+		then:
+			thrown(IllegalArgumentException)
+	}
+}
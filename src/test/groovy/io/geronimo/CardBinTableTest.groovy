@@ -0,0 +1,73 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class CardBinTableTest extends Specification {
+
+	def "isLuhnNumber()"() {
+
+		expect:
+			ValidationUtils.isLuhnNumber(cardNumber) == valid
+		where:
+			cardNumber            || valid
+			'4111-1111-1111-1111' || true
+			'4111 1111 1111 1112' || false
+			'378282246310005'     || true
+			'5555555555554444'    || true
+			'4111-1111-1111-111a' || false
+			'0000000000'          || false
+			null                  || false
+	}
+
+	def "lookup() - 기본 BIN 색인"() {
+
+		expect:
+			CardBinTable.getDefault().lookup(cardNumber)?.brand == brand
+		where:
+			cardNumber            || brand
+			'4111-1111-1111-1111' || 'VISA'
+			'5555555555554444'    || 'MASTERCARD'
+			'2221000000000009'    || 'MASTERCARD'
+			'2720999999999996'    || 'MASTERCARD'
+			'2721000000000000'    || null
+			'378282246310005'     || 'AMEX'
+			'3530111333300000'    || 'JCB'
+			'3527000000000000'    || null
+			'6011111111111117'    || 'DISCOVER'
+			'9000000000000000'    || null
+	}
+
+	def "load() - 긴 접두어 우선, 발급사"() {
+
+		setup:
+			Path file = Files.createTempFile("bins", ".txt")
+			file.write("4 VISA\n404825-404826 VISA 국민카드 # 주석\n", "UTF-8")
+
+		when:
+			CardBinTable table = CardBinTable.load(file)
+			Files.delete(file)
+
+		then:
+			table.lookup('4048 2612 3456 7890').issuer == '국민카드'
+			table.lookup('4048 2712 3456 7890').issuer == null
+			table.lookup('4048 2712 3456 7890').brand == 'VISA'
+			table.isValid('4111-1111-1111-1111')
+			!table.isValid('5555555555554444')
+	}
+
+	def "load() - 잘못된 범위"() {
+
+		setup:
+			Path file = Files.createTempFile("bins", ".txt")
+			file.write("55-5 MASTERCARD\n", "UTF-8")
+
+		expect:
+			CardBinTable.load(file) == null
+
+		cleanup:
+			Files.delete(file)
+	}
+}
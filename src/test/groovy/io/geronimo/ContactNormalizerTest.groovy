@@ -0,0 +1,82 @@
+package io.geronimo
+
+import io.geronimo.ContactNormalizer.Type
+import spock.lang.Specification
+
+class ContactNormalizerTest extends Specification {
+
+	def "normalizeEmail(), normalizePhone()"() {
+
+		expect:
+			ContactNormalizer.normalizeEmail(' Tw.Jang@GERONIMO.IO ') == 'Tw.Jang@geronimo.io'
+			ContactNormalizer.normalizeEmail('tw.jang@geronimo') == null
+			ContactNormalizer.normalizeEmail('tw jang@geronimo.io') == null
+			ContactNormalizer.normalizeEmail(null) == null
+			ContactNormalizer.normalizePhone(phoneNumber) == normalized
+		where:
+			phoneNumber         || normalized
+			'010-1234-5678'     || '+821012345678'
+			'01012345678'       || '+821012345678'
+			'02-123-4567'       || '+8221234567'
+			'0505-123-1231'     || '+825051231231'
+			'+82 10-1234-5678'  || '+821012345678'
+			'+82-2-123-4567'    || '+8221234567'
+			'+821012345678'     || '+821012345678'
+			'+82 010-1234-5678' || null
+			'+1 10-1234-5678'   || null
+			'1588-123-1234'     || null
+			'02--123-4567'      || null
+			'02-123-45678'      || null
+			'0212345'           || null
+	}
+
+	def "normalize() - 정규식 검증과 같은 결과"() {
+
+		setup:
+			Random random = new Random(11)
+			String emailChars = 'aZ9_-.@.'
+			List<String> emails = (0..<5000).collect { (0..<random.nextInt(12) + 1).collect { emailChars[random.nextInt(emailChars.length())] }.join() }
+			List<String> phones = (0..<5000).collect {
+				'0' + (0..<random.nextInt(4) + 1).collect { random.nextInt(10) }.join() + '-' +
+						(0..<random.nextInt(3) + 2).collect { random.nextInt(10) }.join() + '-' +
+						(0..<random.nextInt(3) + 3).collect { random.nextInt(10) }.join()
+			}
+			StringBuilder buffer = new StringBuilder()
+
+		expect:
+			emails.every { (ContactNormalizer.normalizeEmail(it) != null) == ValidationUtils.isEmailAddress(it) }
+			emails.count { ValidationUtils.isEmailAddress(it) } > 0
+			phones.every { ContactNormalizer.normalize(Type.TELEPHONE, it, 0, it.length(), buffer) == ValidationUtils.isTelephoneNumber(it) }
+			phones.every { ContactNormalizer.normalize(Type.CELLPHONE, it, 0, it.length(), buffer) == ValidationUtils.isCellphoneNumber(it) }
+			phones.count { ValidationUtils.isCellphoneNumber(it) } > 0
+	}
+
+	def "normalize() - buffer 재사용, 실패하면 되돌린다"() {
+
+		setup:
+			StringBuilder buffer = new StringBuilder('x:')
+
+		when:
+			boolean valid = ContactNormalizer.normalize(Type.CELLPHONE, 'tel:010 1234 5678;', 4, 17, buffer)
+			boolean invalid = ContactNormalizer.normalize(Type.CELLPHONE, '02-123-4567', 0, 11, buffer)
+
+		then:
+			valid
+			!invalid
+			buffer.toString() == 'x:+821012345678'
+	}
+
+	def "normalize() - CSV 스트림"() {
+
+		setup:
+			StringWriter out = new StringWriter()
+			String csv = 'kim,TW@Geronimo.IO,010-1234-5678\r\nlee,,02-123-4567\npark,bad@mail,011 123 4567\nchoi'
+
+		when:
+			BitSet invalid = ContactNormalizer.normalize(new StringReader(csv), out, ',' as char, null, Type.EMAIL, Type.CELLPHONE)
+
+		then:
+			out.toString() == 'kim,TW@geronimo.io,+821012345678\nlee,,02-123-4567\npark,bad@mail,+82111234567\nchoi\n'
+			invalid.stream().toArray() == [1, 2] as int[]
+	}
+}
@@ -0,0 +1,81 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.ThreadLocalRandom
+
+class DateColumnsTest extends Specification {
+
+	def "ZoneOffsetTable :: epoch millis, local millis 변환 결과가 ZonedDateTime과 같음"() {
+
+		setup:
+			def table = ZoneOffsetTable.of(ZoneId.of(zone))
+			def random = ThreadLocalRandom.current()
+			def from = LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000
+			def to = LocalDateTime.of(2200, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000
+
+		when:
+			def mismatches = (0..<20000).findAll {
+				long millis = random.nextLong(from, to)
+				def local = LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC)
+
+				table.toLocalMillis(millis) != millis + ZoneId.of(zone).rules.getOffset(Instant.ofEpochMilli(millis)).totalSeconds * 1000L ||
+						table.toEpochMillis(millis) != local.atZone(ZoneId.of(zone)).toInstant().toEpochMilli()
+			}
+		then:
+			ZoneOffsetTable.of(ZoneId.of(zone)).is(table)
+			mismatches.isEmpty()
+
+		where:
+			zone << ['Asia/Seoul', 'America/New_York', 'Europe/London', 'Australia/Lord_Howe', 'UTC']
+	}
+
+	def "ZoneOffsetTable :: DST gap, overlap 구간"() {
+
+		setup:
+			def zone = ZoneId.of('America/New_York')
+			def table = ZoneOffsetTable.of(zone)
+
+		expect:
+			[LocalDateTime.of(2017, 3, 12, 2, 30), LocalDateTime.of(2017, 11, 5, 1, 30)].every {
+				table.toEpochMillis(it.toInstant(ZoneOffset.UTC).toEpochMilli()) == it.atZone(zone).toInstant().toEpochMilli()
+			}
+	}
+
+	def "toEpochMillis(), toStrings() :: 문자열 컬럼과 epoch millis 컬럼을 상호 변환"() {
+
+		setup:
+			def values = (0..<20000).collect { DateUtils.toString(LocalDateTime.of(2017, 1, 1, 0, 0).plusMinutes(it * 37L), pattern) } as String[]
+			values[5] = null
+
+		when:
+			long[] millis = DateColumns.toEpochMillis(values, pattern)
+			String[] strings = DateColumns.toStrings(millis, pattern)
+		then:
+			millis[5] == DateColumns.NULL_MILLIS
+			millis[7] == DateUtils.toTimeMillis(DateUtils.toDateTime(values[7], pattern))
+			strings == values
+
+		where:
+			pattern << [DateUtils.DATE_TIME_PATTERN, DateUtils.TIMESTAMP_PATTERN, 'yyyy/MM/dd HH:mm']
+	}
+
+	def "toEpochMillis(), toDates() :: byte[] 컬럼 변환"() {
+
+		setup:
+			def data = '20140607,,19740608'.getBytes('US-ASCII')
+			int[] offsets = [0, -1, 10]
+
+		expect:
+			DateColumns.toEpochMillis(data, offsets, FixedDateFormat.Layout.DATE, DateUtils.KST_ZONE) ==
+					[DateUtils.toTimeMillis(LocalDateTime.of(2014, 6, 7, 0, 0)), DateColumns.NULL_MILLIS, DateUtils.toTimeMillis(LocalDateTime.of(1974, 6, 8, 0, 0))] as long[]
+			DateColumns.toDates(data, offsets, FixedDateFormat.Layout.DATE) == [LocalDate.of(2014, 6, 7), null, LocalDate.of(1974, 6, 8)] as LocalDate[]
+			DateColumns.toDates(['2014/06/07', ''] as String[], 'yyyy/MM/dd') == [LocalDate.of(2014, 6, 7), null] as LocalDate[]
+			DateColumns.toStrings([LocalDate.of(2014, 6, 7)] as LocalDate[], DateUtils.DATE_PATTERN) == ['20140607'] as String[]
+	}
+}
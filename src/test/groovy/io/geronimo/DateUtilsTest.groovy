@@ -5,6 +5,11 @@ import spock.lang.Specification
 import java.sql.Time
 import java.sql.Timestamp
 import java.text.SimpleDateFormat
+import java.time.Instant
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.ZoneOffset
 
 class DateUtilsTest extends Specification {
 
@@ -625,4 +630,61 @@ class DateUtilsTest extends Specification {
 		
 		return dateFormat.format(calendar.getTime())
 	}*/
+
+	def "getFormatter() :: pattern, locale별로 캐시된 DateTimeFormatter를 반환"() {
+
+		expect:
+			DateUtils.getFormatter(DateUtils.DATE_TIME_PATTERN).is(DateUtils.DATE_TIME_FORMATTER)
+			DateUtils.getFormatter('yyyy/MM/dd').is(DateUtils.getFormatter('yyyy/MM/dd'))
+			DateUtils.getFormatter('EEE', Locale.US).format(LocalDate.of(2014, 10, 7)) == 'Tue'
+			DateUtils.getFormatter('EEE', Locale.KOREA).format(LocalDate.of(2014, 10, 7)) == '화'
+			DateUtils.toString(LocalDateTime.of(2014, 10, 7, 12, 34, 56)) == '2014-10-07 12:34:56'
+			DateUtils.toStrKorDateTime('2014-10-07 12:34:56') == '2014년10월07일 12시34분56초'
+	}
+
+	def "now() :: CachedClock이 만들어 둔 현재 시각 문자열을 반환"() {
+
+		when:
+			def before = System.currentTimeMillis()
+			def now = DateUtils.now()
+			def after = System.currentTimeMillis()
+			def parsed = DateUtils.toDateTime(now).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+		then:
+			now.size() == 19
+			parsed >= (before - CachedClock.RESOLUTION_MILLIS * 5).intdiv(1000) * 1000
+			parsed <= after
+			CachedClock.today() == now.substring(0, 10)
+			CachedClock.now(FixedDateFormat.Layout.TIMESTAMP).startsWith(CachedClock.today())
+			Math.abs(CachedClock.currentTimeMillis() - System.currentTimeMillis()) < 1000
+	}
+
+	def "toDateTime(), toTimeMillis(), toString() :: 시간대별 epoch millis 변환"() {
+
+		setup:
+			ZoneId zone = ZoneId.of(zoneId)
+			LocalDateTime expected = Instant.ofEpochMilli(millis).atZone(zone).toLocalDateTime()
+
+		expect:
+			DateUtils.toDateTime(millis, zone) == expected
+			DateUtils.toTimeMillis(expected, zone) == localMillis
+			DateUtils.toString(millis, DateUtils.TIMESTAMP_PATTERN, zone) == expected.format(DateUtils.TIMESTAMP_FORMATTER)
+			DateUtils.toString(millis, DateUtils.KOR_DATE_TIME_PATTERN, zone) == expected.format(DateUtils.KOR_DATE_TIME_FORMATTER)
+		where: 'overlap 구간의 LocalDateTime은 ZonedDateTime과 같이 이른 offset(첫 번째 시각)으로 변환한다.'
+			zoneId             | millis         || localMillis
+			'Asia/Seoul'       | 1507620896123L || 1507620896123L
+			'America/New_York' | 1489302000000L || 1489302000000L  // 2017-03-12 03:00 EDT, gap 직후
+			'America/New_York' | 1509858000000L || 1509858000000L  // 2017-11-05 01:00 EDT, overlap 첫 번째 시각
+			'America/New_York' | 1509861600000L || 1509858000000L  // 2017-11-05 01:00 EST, overlap 두 번째 시각
+			'Europe/London'    | -86399999L     || -86399999L
+			'UTC'              | 0L             || 0L
+	}
+
+	def "toDateTime(), toTimeMillis() :: 기본 시간대는 KST"() {
+
+		expect:
+			DateUtils.toDateTime(0L) == LocalDateTime.of(1970, 1, 1, 9, 0)
+			DateUtils.toTimeMillis(LocalDateTime.of(1970, 1, 1, 9, 0, 0, 5_000_000)) == 5L
+			DateUtils.toString(0L, DateUtils.DATE_TIME_PATTERN) == '1970-01-01 09:00:00'
+			DateUtils.convert(LocalDateTime.of(2017, 1, 1, 9, 0), DateUtils.KST_ZONE, ZoneOffset.UTC) == LocalDateTime.of(2017, 1, 1, 0, 0)
+	}
 }
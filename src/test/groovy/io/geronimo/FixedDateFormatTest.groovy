@@ -0,0 +1,110 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.ZoneOffset
+import java.time.format.DateTimeParseException
+import java.util.concurrent.ThreadLocalRandom
+
+import static io.geronimo.FixedDateFormat.Layout.*
+
+class FixedDateFormatTest extends Specification {
+
+	def "parseDateTime(), format() :: DateTimeFormatter와 같은 결과를 반환"() {
+
+		setup:
+			def random = ThreadLocalRandom.current()
+			def formatter = DateUtils.getFormatter(layout.pattern)
+
+		expect:
+			(0..<2000).every {
+				def dateTime = LocalDateTime.of(random.nextInt(1, 10000), random.nextInt(1, 13), random.nextInt(1, 29),
+						random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1_000_000)
+				def text = formatter.format(dateTime)
+				def bytes = ('xx' + text).getBytes('US-ASCII')
+
+				FixedDateFormat.format(dateTime, layout) == text &&
+						FixedDateFormat.parseDateTime(text, layout) == LocalDateTime.parse(text, formatter) &&
+						FixedDateFormat.parseDateTime(bytes, 2, layout) == LocalDateTime.parse(text, formatter) &&
+						FixedDateFormat.parseEpochMillis(text, layout, DateUtils.KST_OFFSET) == LocalDateTime.parse(text, formatter).toInstant(DateUtils.KST_OFFSET).toEpochMilli()
+			}
+
+		where:
+			layout << [DATE_HMS, DATE_TIME, TIMESTAMP]
+	}
+
+	def "parseDate() :: 고정 길이 일자 파싱"() {
+
+		expect:
+			FixedDateFormat.parseDate(text, layout) == result
+			FixedDateFormat.parseDate(text.getBytes('US-ASCII'), 0, layout) == result
+			FixedDateFormat.format(result, layout) == text
+		where:
+			text         | layout    || result
+			'20140607'   | DATE      || LocalDate.of(2014, 6, 7)
+			'2012-02-29' | DATE_DASH || LocalDate.of(2012, 2, 29)
+			'1900-12-31' | DATE_DASH || LocalDate.of(1900, 12, 31)
+	}
+
+	def "parseDate() :: 범위를 벗어난 값은 DateTimeFormatter로 위임"() {
+
+		expect: 'SMART resolver는 월의 마지막 날로 보정한다.'
+			FixedDateFormat.parseDate('2014-02-30', DATE_DASH) == LocalDate.parse('2014-02-30', DateUtils.DATE_DASH_FORMATTER)
+
+		when:
+			FixedDateFormat.parseDate('2014-1a-01', DATE_DASH)
+		then:
+			thrown(DateTimeParseException)
+	}
+
+	def "format(), parseDate() :: 0년은 DateTimeFormatter와 같이 year-of-era로 처리"() {
+
+		setup:
+			def millis = LocalDateTime.of(0, 6, 7, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli()
+			def buffer = new char[19]
+
+		expect:
+			FixedDateFormat.format(LocalDate.of(0, 6, 7), DATE) == DateUtils.getFormatter(DATE.pattern).format(LocalDate.of(0, 6, 7))
+			FixedDateFormat.format(LocalDate.of(0, 6, 7), DATE) == '00010607'
+			FixedDateFormat.format(LocalDateTime.of(0, 6, 7, 12, 0), DATE_TIME) == '0001-06-07 12:00:00'
+
+		when:
+			FixedDateFormat.formatTo(millis, ZoneOffset.UTC, DATE_TIME, buffer, 0)
+		then:
+			new String(buffer) == '0001-06-07 12:00:00'
+
+		when:
+			FixedDateFormat.parseDate('00000607', DATE)
+		then:
+			thrown(DateTimeParseException)
+
+		when:
+			FixedDateFormat.parseDateTime('0000-06-07 12:00:00', DATE_TIME)
+		then:
+			thrown(DateTimeParseException)
+	}
+
+	def "formatTo() :: epoch millis를 객체 생성 없이 buffer에 기록"() {
+
+		setup:
+			def buffer = new char[25]
+			def millis = LocalDateTime.of(1969, 12, 31, 23, 59, 58, 123_000_000).toInstant(ZoneOffset.UTC).toEpochMilli()
+
+		when:
+			FixedDateFormat.formatTo(millis, DateUtils.KST_OFFSET, TIMESTAMP, buffer, 1)
+		then:
+			new String(buffer, 1, 23) == '1970-01-01 08:59:58.123'
+	}
+
+	def "DateUtils :: 고정 길이 포맷은 fast path를 사용"() {
+
+		expect:
+			DateUtils.toDateTime('2014-10-07 12:34:56') == LocalDateTime.of(2014, 10, 7, 12, 34, 56)
+			DateUtils.toDateTime('20141007123456', DateUtils.DATE_HMS_PATTERN) == LocalDateTime.of(2014, 10, 7, 12, 34, 56)
+			DateUtils.toString(LocalDate.of(2014, 10, 7), DateUtils.DATE_PATTERN) == '20141007'
+			DateUtils.getDays('2010-11-24', '2010-12-30') == 36
+			DateUtils.now().size() == 19
+	}
+}
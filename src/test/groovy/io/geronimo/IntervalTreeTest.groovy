@@ -0,0 +1,77 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+class IntervalTreeTest extends Specification {
+
+	def "add(), stab(), overlapping(), overlaps()"() {
+
+		setup:
+			IntervalTree<String> tree = new IntervalTree<>()
+			tree.add(10, 20, 'a')
+			tree.add(15, 25, 'b')
+			tree.add(30, 40, 'c')
+			tree.add(20, 30, 'd')
+
+		expect:
+			tree.size() == 4
+			tree.stab(15)*.value == ['a', 'b']
+			tree.stab(20)*.value == ['b', 'd']
+			tree.stab(40).isEmpty()
+			tree.overlapping(24, 31)*.value == ['b', 'd', 'c']
+			tree.overlaps(0, 11)
+			!tree.overlaps(0, 10)
+			!tree.overlaps(40, 50)
+			tree.merge() as List == [10L, 40L]
+	}
+
+	def "of() - 무작위 구간을 전수 검사와 비교"() {
+
+		setup:
+			Random random = new Random(7)
+			List<IntervalTree.Interval<Integer>> intervals = (0..<2000).collect {
+				long start = random.nextInt(100000)
+				new IntervalTree.Interval<Integer>(start, start + random.nextInt(500), it)
+			}
+			IntervalTree<Integer> bulk = IntervalTree.of(intervals)
+			IntervalTree<Integer> incremental = new IntervalTree<>()
+			intervals.each { incremental.add(it) }
+
+		when:
+			boolean consistent = true
+			for (int i = 0; i < 500; i++) {
+				long start = random.nextInt(100000)
+				long end = start + random.nextInt(1000)
+				Set<Integer> expected = intervals.findAll { it.overlaps(start, end) }*.value as Set
+				consistent &= (bulk.overlapping(start, end)*.value as Set) == expected
+				consistent &= (incremental.overlapping(start, end)*.value as Set) == expected
+				consistent &= bulk.overlaps(start, end) == !expected.isEmpty()
+				consistent &= incremental.overlaps(start, end) == !expected.isEmpty()
+				consistent &= (incremental.stab(start)*.value as Set) == (intervals.findAll { it.contains(start) }*.value as Set)
+			}
+
+		then:
+			consistent
+			bulk.merge() == incremental.merge()
+			bulk.merge() == IntervalTree.merge(intervals*.start as long[], intervals*.end as long[])
+	}
+
+	def "LocalDateTime 구간"() {
+
+		setup:
+			IntervalTree<String> bookings = new IntervalTree<>()
+			bookings.add(LocalDateTime.of(2017, 10, 1, 9, 0), LocalDateTime.of(2017, 10, 1, 10, 0), 'room-1')
+
+		expect:
+			bookings.overlaps(LocalDateTime.of(2017, 10, 1, 9, 30), LocalDateTime.of(2017, 10, 1, 11, 0))
+			!bookings.overlaps(LocalDateTime.of(2017, 10, 1, 10, 0), LocalDateTime.of(2017, 10, 1, 11, 0))
+	}
+
+	def "merge() - 맞닿은 구간도 합침"() {
+
+		expect:
+			IntervalTree.merge([5L, 1L, 3L, 10L] as long[], [6L, 3L, 4L, 12L] as long[]) as List == [1L, 4L, 5L, 6L, 10L, 12L]
+	}
+}
@@ -0,0 +1,350 @@
+package io.geronimo
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties
+import com.fasterxml.jackson.core.type.TypeReference
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.StandardOpenOption
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.nio.charset.StandardCharsets
+import java.util.stream.Collectors
+
+class JsonUtilsTest extends Specification {
+
+	@Rule
+	TemporaryFolder tempFolder = new TemporaryFolder()
+
+	def "toJsonLines(), fromJsonLines() :: NDJSON 파일 쓰기, 읽기 시 순서가 유지되는지 확인"() {
+
+		setup:
+			def path = tempFolder.newFile('records.ndjson').toPath()
+			def records = (0..<200000).collect { [id: it, name: 'name-' + it] }
+
+		when:
+			def written = JsonUtils.toJsonLines(records, path)
+			def stream = JsonUtils.fromJsonLines(path, new TypeReference<Map<String, Object>>() {})
+			def result = stream.collect(Collectors.toList())
+			stream.close()
+		then:
+			written
+			path.toFile().length() > JsonUtils.JSON_LINES_CHUNK_SIZE
+			result.size() == records.size()
+			result.collect { it.id } == (0..<200000).toList()
+			result[199999].name == 'name-199999'
+	}
+
+	def "fromJsonLines() :: 빈 줄과 잘못된 줄은 건너뜀"() {
+
+		setup:
+			def file = tempFolder.newFile('broken.ndjson')
+			file.text = '{"a":1}\r\n\n{broken\n{"a":2}'
+
+		when:
+			def stream = JsonUtils.fromJsonLines(file.toPath(), Map)
+			def result = stream.collect(Collectors.toList())
+			stream.close()
+		then:
+			result == [[a: 1], [a: 2]]
+	}
+
+	def "fromJsonLines() :: 배열로 읽을 수 없는 크기의 청크는 건너뜀"() {
+
+		setup:
+			def file = tempFolder.newFile('huge.ndjson')
+			file.text = '{"a":1}\n'
+			def channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)
+
+		when:
+			def result = JsonUtils.readJsonLinesChunk(channel, 0L, 3L << 30, JsonUtils.getObjectMapper().readerFor(Map))
+		then:
+			result == []
+			JsonUtils.readJsonLinesChunk(channel, 0L, 8L, JsonUtils.getObjectMapper().readerFor(Map)) == [[a: 1]]
+
+		cleanup:
+			channel?.close()
+	}
+
+	def "toJsonBytes(), writeJson(), fromJson() :: String을 거치지 않는 byte 단위 직렬화"() {
+
+		setup:
+			def value = [name: '홍길동', age: 40]
+			def out = new ByteArrayOutputStream()
+
+		when:
+			def bytes = JsonUtils.toJsonBytes(value)
+			def written = JsonUtils.writeJson(value, out)
+		then:
+			new String(bytes, StandardCharsets.UTF_8) == JsonUtils.toJson(value)
+			written
+			out.toByteArray() == bytes
+			JsonUtils.fromJson(bytes, Map) == value
+			JsonUtils.fromJson(new ByteArrayInputStream(bytes), Map) == value
+	}
+
+	def "writeJson(), fromJson() :: ByteBuffer 기록 및 읽기"() {
+
+		setup:
+			def value = [name: '홍길동', age: 40]
+
+		when:
+			def buffer = ByteBuffer.allocateDirect(256)
+			def written = JsonUtils.writeJson(value, buffer)
+			buffer.flip()
+			def result = JsonUtils.fromJson(buffer, Map)
+		then:
+			written
+			result == value
+			!buffer.hasRemaining()
+
+		when:
+			def small = ByteBuffer.allocate(4)
+		then:
+			!JsonUtils.writeJson(value, small)
+			small.position() == 0
+	}
+
+	def "toBytes(), fromBytes() :: binary 포맷은 같은 설정으로 왕복 변환되고 JSON보다 작음"() {
+
+		setup:
+			def records = (0..<100).collect { [id: it, name: 'name', active: true, score: it * 1.5d] }
+			def jsonSize = JsonUtils.toBytes(records, JsonFormat.JSON).length
+
+		when:
+			def bytes = JsonUtils.toBytes(records, format)
+		then:
+			bytes.length < jsonSize
+			JsonUtils.fromBytes(bytes, new TypeReference<List<Map<String, Object>>>() {}, format) == records
+
+		where:
+			format << [JsonFormat.SMILE, JsonFormat.CBOR]
+	}
+
+	def "toBytes() :: 기본 포맷 설정 변경"() {
+
+		setup:
+			def value = [at: LocalDateTime.of(2017, 10, 18, 12, 30)]
+
+		when:
+			JsonUtils.setDefaultFormat(JsonFormat.SMILE)
+			def bytes = JsonUtils.toBytes(value)
+		then:
+			bytes == JsonUtils.toBytes(value, JsonFormat.SMILE)
+			JsonUtils.fromBytes(bytes, Map).at == [2017, 10, 18, 12, 30]
+
+		cleanup:
+			JsonUtils.setDefaultFormat(JsonFormat.JSON)
+	}
+
+	def "extract() :: path에 해당하는 값만 추출"() {
+
+		setup:
+			def json = '''{"skip":{"deep":[1,2,3]},"a":{"b":[0,1,2,{"c":"x","d":null}]},"a b":[10,20],"n":5}'''
+
+		expect:
+			JsonUtils.extract(json, path)?.toString() == result
+		where:
+			path          || result
+			'$.a.b[3].c'  || '"x"'
+			'a.b[1]'      || '1'
+			"\$['a b'][1]" || '20'
+			'$.n'         || '5'
+			'$.a.b[3].d'  || 'null'
+			'$.a.b[9]'    || null
+			'$.n.x'       || null
+	}
+
+	def "extractAll() :: 여러 path를 한 번에 추출하고 모두 찾으면 나머지 입력은 읽지 않음"() {
+
+		setup:
+			def json = '{"a":{"b":1,"c":[1,2]},"z":1, broken'
+
+		when:
+			def result = JsonUtils.extractAll(new ByteArrayInputStream(json.getBytes('UTF-8')), '$.a', '$.a.c[1]', '$.z')
+		then:
+			result.keySet().toList() == ['$.a', '$.a.c[1]', '$.z']
+			result['$.a'].get('b').intValue() == 1
+			result['$.a.c[1]'].intValue() == 2
+			result['$.z'].intValue() == 1
+	}
+
+	def "extract(), extractAll() :: path가 올바르지 않으면 null, 빈 map"() {
+
+		expect:
+			JsonUtils.extract('{"a":1}', '$.a[') == null
+			JsonUtils.extractAll('{"a":1}', '$.a', '$.a[').isEmpty()
+			JsonUtils.extractAll('{"a":1}'.getBytes('UTF-8'), '$..').isEmpty()
+			JsonUtils.extractAll(new ByteArrayInputStream('{"a":1}'.getBytes('UTF-8')), "\$['a").isEmpty()
+	}
+
+	def "mergePatch() :: RFC 7386 merge patch 적용 시 변경되지 않은 하위 트리는 공유"() {
+
+		setup:
+			def target = JsonUtils.fromJson('{"a":"b","c":{"d":"e","f":"g"},"big":{"x":[1,2,3]}}')
+			def patch = JsonUtils.fromJson('{"a":"z","c":{"f":null},"n":{"m":null,"k":1}}')
+
+		when:
+			def result = JsonUtils.mergePatch(target, patch)
+		then:
+			JsonUtils.toJson(result) == '{"a":"z","c":{"d":"e"},"big":{"x":[1,2,3]},"n":{"k":1}}'
+			result.get('big').is(target.get('big'))
+			JsonUtils.toJson(target) == '{"a":"b","c":{"d":"e","f":"g"},"big":{"x":[1,2,3]}}'
+	}
+
+	def "mergePatch(String, String) :: 원본이나 patch가 올바르지 않으면 null"() {
+
+		expect:
+			JsonUtils.mergePatch('{"a":"b"}', '{"c":1}') == '{"a":"b","c":1}'
+			JsonUtils.mergePatch('{"a":"b"}', '{"c":') == null
+			JsonUtils.mergePatch('{"a":', '{"c":1}') == null
+	}
+
+	def "applyPatch() :: RFC 6902 JSON patch 적용"() {
+
+		setup:
+			def json = '{"foo":{"bar":[1,2]},"baz":"qux","keep":{"deep":true}}'
+			def patch = '''[
+				{"op":"test","path":"/baz","value":"qux"},
+				{"op":"add","path":"/foo/bar/1","value":9},
+				{"op":"add","path":"/foo/bar/-","value":3},
+				{"op":"replace","path":"/baz","value":"boo"},
+				{"op":"copy","from":"/baz","path":"/copied"},
+				{"op":"move","from":"/copied","path":"/a~1b"},
+				{"op":"remove","path":"/foo/bar/0"}
+			]'''
+
+		when:
+			def target = JsonUtils.fromJson(json)
+			def result = JsonUtils.applyPatch(target, JsonUtils.fromJson(patch))
+		then:
+			JsonUtils.toJson(result) == '{"foo":{"bar":[9,2,3]},"baz":"boo","keep":{"deep":true},"a/b":"boo"}'
+			result.get('keep').is(target.get('keep'))
+			JsonUtils.toJson(target) == json
+
+		expect:
+			JsonUtils.applyPatch(json, '[{"op":"test","path":"/baz","value":"x"}]') == null
+			JsonUtils.applyPatch(json, '[{"op":"remove","path":"/nothing"}]') == null
+			JsonUtils.applyPatch(json, '[{"op":"add","path":"/foo/bar/5","value":1}]') == null
+	}
+
+	def "applyPatch() :: test 연산은 숫자를 표현과 관계없이 값으로 비교"() {
+
+		expect:
+			JsonUtils.applyPatch('{"a":1}', '[{"op":"test","path":"/a","value":1.0}]') == '{"a":1}'
+			JsonUtils.applyPatch('{"a":{"b":[10]}}', '[{"op":"test","path":"/a","value":{"b":[1e1]}}]') == '{"a":{"b":[10]}}'
+			JsonUtils.applyPatch('{"a":1}', '[{"op":"test","path":"/a","value":1.5}]') == null
+			JsonUtils.applyPatch('{"a":1}', '[{"op":"test","path":"/a","value":"1"}]') == null
+	}
+
+	def "warmUp() :: DTO serializer를 미리 생성한 뒤에도 동일하게 변환"() {
+
+		setup:
+			def member = new Member(id: 7L, name: '홍길동', birthdate: LocalDate.of(1974, 6, 8))
+
+		when:
+			JsonUtils.warmUp(Member)
+			def json = JsonUtils.toJson(member)
+			def result = JsonUtils.fromJson(json, Member)
+		then:
+			result.id == 7L
+			result.name == '홍길동'
+			result.birthdate == LocalDate.of(1974, 6, 8)
+	}
+
+	def "warmUp() :: 모든 포맷의 mapper에 serializer를 생성하고 @JsonOptimized 타입만 accessor를 생성"() {
+
+		setup:
+			def member = new OptimizedMember(id: 7L, name: '홍길동')
+
+		when:
+			JsonUtils.warmUp(OptimizedMember, Member)
+			def optimized = JsonUtils.getObjectMapper().serializerProviderInstance.findValueSerializer(OptimizedMember)
+			def plain = JsonUtils.getObjectMapper().serializerProviderInstance.findValueSerializer(Member)
+
+		then:
+			JsonFormat.values().every { JsonUtils.getObjectMapper(it).serializerProvider.cachedSerializersCount() > 0 }
+			optimized.properties().collect { it.class.package.name }.every { it.contains('afterburner') }
+			plain.properties().collect { it.class.package.name }.every { !it.contains('afterburner') }
+			JsonUtils.fromBytes(JsonUtils.toBytes(member, JsonFormat.SMILE), OptimizedMember, JsonFormat.SMILE).name == '홍길동'
+			JsonUtils.fromJson(JsonUtils.toJson(member), OptimizedMember).id == 7L
+	}
+
+	def "compileSchema(), validate() :: 컴파일된 schema로 한 번에 검사하고 id로 캐시"() {
+
+		setup:
+			def schema = JsonUtils.compileSchema('''{
+				"$id": "member",
+				"type": "object",
+				"required": ["id", "name"],
+				"additionalProperties": false,
+				"properties": {
+					"id": {"type": "integer", "minimum": 1},
+					"name": {"type": "string", "minLength": 2, "maxLength": 10},
+					"email": {"type": "string", "pattern": "^[^@]+@[^@]+$"},
+					"grade": {"enum": ["A", "B"]},
+					"tags": {"type": "array", "maxItems": 2, "items": {"type": "string"}}
+				}
+			}''')
+
+		expect:
+			JsonUtils.getSchema('member').is(schema)
+			JsonUtils.validate('{"id":1,"name":"홍길동","email":"a@b.c","grade":"A","tags":["x"]}', schema).isEmpty()
+			JsonUtils.validate(json, schema) == errors
+
+		where:
+			json                                       || errors
+			'{"id":0,"name":"홍"}'                      || ['$.id: 0.0 is less than 1.0', '$.name: length 1 is out of range [2, 10]']
+			'{"name":"홍길동","grade":"C"}'              || ['$.grade: value "C" is not one of ["A", "B"]', '$: required property \'id\' is missing']
+			'{"id":"1","name":"홍길동","x":1}'           || ['$.id: expected integer but was string', '$.x: property is not allowed']
+			'{"id":1,"name":"홍길동","tags":["a",2,"c"]}' || ['$.tags[1]: expected string but was integer', '$.tags: item count 3 is out of range [0, 2]']
+			'[1]'                                      || ['$: expected object but was array']
+	}
+
+	def "compileSchema() :: 같은 id의 다른 schema는 캐시된 schema를 재사용하지 않음"() {
+
+		when:
+			def first = JsonUtils.compileSchema('{"$id":"redefined","type":"object","required":["id"]}')
+			def second = JsonUtils.compileSchema('{"$id":"redefined","type":"object","required":["name"]}')
+
+		then:
+			!second.is(first)
+			JsonUtils.compileSchema('{"$id":"redefined","type":"object","required":["id"]}').is(first)
+			JsonUtils.validate('{"name":"홍길동"}', second).isEmpty()
+			JsonUtils.validate('{"name":"홍길동"}', first) == ['$: required property \'id\' is missing']
+			JsonUtils.getSchema('redefined').is(second)
+	}
+
+	def "fromJson(json, schema, clazz) :: 검사와 binding을 한 번에 수행"() {
+
+		setup:
+			def schema = JsonUtils.compileSchema('{"type":"object","required":["id"],"properties":{"id":{"type":"integer"},"birthdate":{"type":"string"}}}')
+
+		when:
+			def member = JsonUtils.fromJson('{"id":7,"name":"홍길동","birthdate":"1974-06-08"}', schema, Member)
+		then:
+			member.id == 7L
+			member.name == '홍길동'
+			member.birthdate == LocalDate.of(1974, 6, 8)
+
+		expect:
+			JsonUtils.fromJson('{"name":"홍길동"}', schema, Member) == null
+	}
+
+	@JsonOptimized
+	@JsonIgnoreProperties(['metaClass'])
+	static class OptimizedMember {
+		Long id
+		String name
+	}
+
+	@JsonIgnoreProperties(['metaClass'])
+	static class Member {
+		Long id
+		String name
+		LocalDate birthdate
+	}
+}
@@ -0,0 +1,90 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+class LunarCalendarTest extends Specification {
+
+	def "toLunar(), toSolar() - 설날, 추석, 윤달"() {
+
+		setup:
+			int expected = leap ? lunar + LunarCalendar.LEAP_MONTH : lunar
+
+		expect:
+			LunarCalendar.toLunar(solar) == expected
+			LunarCalendar.toSolar(expected) == solar
+			LunarCalendar.isLeapMonth(expected) == leap
+		where:
+			solar    | lunar    | leap
+			19000131 | 19000101 | false
+			20240210 | 20240101 | false
+			20250129 | 20250101 | false
+			20251006 | 20250815 | false
+			20260925 | 20260815 | false
+			20250625 | 20250601 | false
+			20250725 | 20250601 | true
+			20170624 | 20170501 | true
+			20230322 | 20230201 | true
+			20340219 | 20340101 | false
+	}
+
+	def "getLeapMonth(), lengthOfYear()"() {
+
+		expect:
+			LunarCalendar.getLeapMonth(year) == leapMonth
+			PackedDate.getDays(LunarCalendar.toSolar(year, 1, 1, false), LunarCalendar.toSolar(year + 1, 1, 1, false)) == LunarCalendar.lengthOfYear(year)
+		where:
+			year || leapMonth
+			2012 || 3
+			2017 || 5
+			2020 || 4
+			2024 || 0
+			2033 || 11
+	}
+
+	def "전체 범위 왕복 변환"() {
+
+		setup:
+			long first = PackedDate.toEpochDay(19000131)
+			long last = PackedDate.toEpochDay(LunarCalendar.toSolar(2100, 12, LunarCalendar.lengthOfMonth(2100, 12, false), false))
+
+		when:
+			boolean consistent = true
+			int previous = 0
+			for (long epochDay = first; epochDay <= last; epochDay++) {
+				int solar = PackedDate.ofEpochDay(epochDay)
+				int lunar = LunarCalendar.toLunar(solar)
+				consistent &= LunarCalendar.toSolar(lunar) == solar
+				if (PackedDate.day(LunarCalendar.getDate(lunar)) != 1) {
+					consistent &= lunar == previous + 1
+				}
+				previous = lunar
+			}
+
+		then:
+			consistent
+	}
+
+	def "범위를 벗어난 일자"() {
+
+		when:
+			LunarCalendar.toLunar(solar)
+		then:
+			thrown(IllegalArgumentException)
+		where:
+			solar << [19000130, 21020101, 20240230]
+	}
+
+	def "잘못된 음력 일자"() {
+
+		when:
+			LunarCalendar.toSolar(year, month, day, leap)
+		then:
+			thrown(IllegalArgumentException)
+		where:
+			year | month | day | leap
+			2024 | 1     | 31  | false
+			2024 | 6     | 1   | true
+			2025 | 13    | 1   | false
+			2101 | 1     | 1   | false
+	}
+}
@@ -0,0 +1,89 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+
+class MonotonicClockTest extends Specification {
+
+	def "currentTimeMillis() - offset이 줄어도 뒤로 가지 않음"() {
+
+		setup:
+			NtpSynchronizer synchronizer = new NtpSynchronizer("127.0.0.1")
+			MonotonicClock clock = new MonotonicClock(synchronizer)
+
+		when:
+			synchronizer.update(System.currentTimeMillis(), 5000L, 1L, 1)
+			Thread.sleep(5)
+			long stepped = clock.currentTimeMillis()
+			synchronizer.update(System.currentTimeMillis(), 0L, 1L, 1)
+
+			boolean monotonic = true
+			long previous = stepped
+			for (int i = 0; i < 10000; i++) {
+				long now = clock.currentTimeMillis()
+				monotonic &= now >= previous
+				previous = now
+			}
+
+		then:
+			Math.abs(stepped - System.currentTimeMillis() - 5000L) < 200
+			monotonic
+			previous >= stepped
+	}
+
+	def "nextTimestamp() - 엄격하게 증가"() {
+
+		setup:
+			MonotonicClock clock = new MonotonicClock(new NtpSynchronizer("127.0.0.1"))
+
+		when:
+			long previous = clock.nextTimestamp()
+			boolean increasing = true
+			for (int i = 0; i < 100000; i++) {
+				long next = clock.nextTimestamp()
+				increasing &= next > previous
+				previous = next
+			}
+
+		then:
+			increasing
+			Math.abs(MonotonicClock.toMillis(previous) - System.currentTimeMillis()) < 1000
+	}
+
+	def "nextTimestamp() - 여러 스레드에서 중복 없음"() {
+
+		setup:
+			MonotonicClock clock = new MonotonicClock(new NtpSynchronizer("127.0.0.1"))
+			Set<Long> issued = ConcurrentHashMap.newKeySet()
+
+		when:
+			List<Thread> threads = (1..4).collect {
+				Thread.start {
+					for (int i = 0; i < 10000; i++) {
+						issued.add(clock.nextTimestamp())
+					}
+				}
+			}
+			threads*.join()
+
+		then:
+			issued.size() == 40000
+	}
+
+	def "receiveTimestamp() - 수신한 값보다 큰 값 발급"() {
+
+		setup:
+			MonotonicClock clock = new MonotonicClock(new NtpSynchronizer("127.0.0.1"))
+			long remote = (System.currentTimeMillis() + 60000L) << MonotonicClock.SEQUENCE_BITS | 7
+
+		when:
+			long received = clock.receiveTimestamp(remote)
+			long next = clock.nextTimestamp()
+
+		then:
+			received == remote + 1
+			MonotonicClock.toSequence(received) == 8
+			next > received
+	}
+}
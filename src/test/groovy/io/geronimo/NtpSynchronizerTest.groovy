@@ -0,0 +1,134 @@
+package io.geronimo
+
+import org.apache.commons.net.ntp.NtpV3Impl
+import org.apache.commons.net.ntp.NtpV3Packet
+import org.apache.commons.net.ntp.TimeStamp
+import spock.lang.Specification
+
+class NtpSynchronizerTest extends Specification {
+
+	/**
+	 * 지정한 offset만큼 어긋난 시각을 응답하는 로컬 NTP 서버
+	 */
+	static class LocalNtpServer implements Closeable {
+
+		final DatagramSocket socket = new DatagramSocket(0, InetAddress.loopbackAddress)
+
+		LocalNtpServer(long offset) {
+			Thread.startDaemon {
+				byte[] buffer = new byte[48]
+				while (!socket.closed) {
+					DatagramPacket packet = new DatagramPacket(buffer, buffer.length)
+					try {
+						socket.receive(packet)
+					} catch (IOException ignored) {
+						return
+					}
+
+					NtpV3Impl request = new NtpV3Impl()
+					request.datagramPacket = packet
+
+					long now = System.currentTimeMillis() + offset
+					NtpV3Impl reply = new NtpV3Impl()
+					reply.mode = NtpV3Packet.MODE_SERVER
+					reply.version = NtpV3Packet.VERSION_3
+					reply.stratum = 1
+					reply.setOriginateTimeStamp(request.transmitTimeStamp)
+					reply.setReceiveTimeStamp(TimeStamp.getNtpTime(now))
+					reply.setTransmitTime(TimeStamp.getNtpTime(now))
+
+					DatagramPacket response = reply.datagramPacket
+					response.address = packet.address
+					response.port = packet.port
+					socket.send(response)
+				}
+			}
+		}
+
+		int getPort() {
+			socket.localPort
+		}
+
+		void close() {
+			socket.close()
+		}
+	}
+
+	def "동기화 전에는 offset 0"() {
+
+		setup:
+			NtpSynchronizer synchronizer = new NtpSynchronizer(["127.0.0.1"] as String[], 1, 100, 60000)
+
+		expect:
+			!synchronizer.isSynchronized()
+			synchronizer.getOffsetMillis() == 0L
+	}
+
+	def "synchronize() - 로컬 NTP 서버의 offset 추정"() {
+
+		setup:
+			LocalNtpServer server = new LocalNtpServer(5000L)
+			NtpSynchronizer synchronizer = new NtpSynchronizer(["127.0.0.1", "localhost"] as String[], server.port, 1000, 60000)
+
+		when:
+			boolean success = synchronizer.synchronize()
+			long gap = synchronizer.currentTimeMillis() - System.currentTimeMillis()
+			server.close()
+
+		then:
+			success
+			synchronizer.isSynchronized()
+			Math.abs(synchronizer.getOffsetMillis() - 5000L) < 200
+			Math.abs(gap - 5000L) < 200
+	}
+
+	def "start() - daemon 스레드에서 동기화"() {
+
+		setup:
+			LocalNtpServer server = new LocalNtpServer(-3000L)
+			NtpSynchronizer synchronizer = new NtpSynchronizer(["127.0.0.1"] as String[], server.port, 1000, 60000)
+
+		when:
+			synchronizer.start()
+			for (int i = 0; i < 100 && !synchronizer.isSynchronized(); i++) {
+				Thread.sleep(20)
+			}
+			synchronizer.stop()
+			server.close()
+
+		then:
+			synchronizer.isSynchronized()
+			Math.abs(synchronizer.getOffsetMillis() + 3000L) < 200
+	}
+
+	def "synchronize() - 응답이 없으면 추정값 유지"() {
+
+		setup:
+			DatagramSocket silent = new DatagramSocket(0, InetAddress.loopbackAddress)
+			NtpSynchronizer synchronizer = new NtpSynchronizer(["127.0.0.1"] as String[], silent.localPort, 100, 60000)
+
+		when:
+			boolean success = synchronizer.synchronize()
+			silent.close()
+
+		then:
+			!success
+			!synchronizer.isSynchronized()
+			synchronizer.getOffsetMillis() == 0L
+	}
+
+	def "update() - drift 추정"() {
+
+		setup:
+			NtpSynchronizer synchronizer = new NtpSynchronizer("127.0.0.1")
+
+		when:
+			synchronizer.update(0L, 100L, 1L, 1)
+			synchronizer.update(1000000L, 200L, 1L, 1)
+
+		then:
+			synchronizer.getDrift() > 0d
+			synchronizer.getOffsetMillis(1000000L) == 200L
+			synchronizer.getOffsetMillis(2000000L) > 200L
+	}
+}
@@ -0,0 +1,75 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.temporal.ChronoUnit
+
+class PackedDateTest extends Specification {
+
+	def "getAge() - AgeUtils와 같은 결과"() {
+
+		expect:
+			PackedDate.getAge(birthday, baseday) == AgeUtils.getAge(birthday as String, baseday as String)
+			PackedDate.getKoreanAge(birthday, baseday) == AgeUtils.getKoreanAge(birthday as String, baseday as String)
+		where:
+			birthday | baseday
+			19740608 | 20140607
+			19740608 | 20140608
+			19740608 | 20140609
+			19740608 | 19740608
+			20000229 | 20010228
+	}
+
+	def "toEpochDay(), ofEpochDay(), plusDays(), getDays()"() {
+
+		setup:
+			LocalDate local = LocalDate.of(date.intdiv(10000), date.intdiv(100) % 100, date % 100)
+
+		expect:
+			PackedDate.toEpochDay(date) == local.toEpochDay()
+			PackedDate.ofEpochDay(local.toEpochDay()) == date
+			PackedDate.plusDays(date, days) == (local.plusDays(days).format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE) as int)
+			PackedDate.getDays(date, PackedDate.plusDays(date, days)) == days
+			PackedDate.isLeapYear(date) == local.isLeapYear()
+		where:
+			date     | days
+			19700101 | 0
+			20000229 | 365
+			20161231 | 1
+			19000301 | -1
+			20991231 | -36524
+	}
+
+	def "parse() - 잘못된 입력"() {
+
+		when:
+			PackedDate.parse(text)
+		then:
+			thrown(IllegalArgumentException)
+		where:
+			text << ['2014060', '2014o608', '20140230', '20141301', null]
+	}
+
+	def "배열 연산"() {
+
+		setup:
+			int[] birthdates = [19740608, 19800101, 20000229] as int[]
+			int[] ages = new int[3]
+			int[] koreanAges = new int[3]
+			int[] days = new int[3]
+			int[] plus = new int[3]
+
+		when:
+			PackedDate.getAges(birthdates, 20140608, ages)
+			PackedDate.getKoreanAges(birthdates, 20140608, koreanAges)
+			PackedDate.getDays(birthdates, 20140608, days)
+			PackedDate.plusDays(birthdates, 1, plus)
+
+		then:
+			ages as List == [40, 34, 14]
+			koreanAges as List == [41, 35, 15]
+			days[0] == ChronoUnit.DAYS.between(LocalDate.of(1974, 6, 8), LocalDate.of(2014, 6, 8))
+			plus as List == [19740609, 19800102, 20000301]
+	}
+}
@@ -0,0 +1,94 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+import java.util.regex.Pattern
+
+class ValidationPlanTest extends Specification {
+
+	ValidationPlan plan = ValidationPlan.builder(',' as char)
+			.required(0, 100).byteLength(0, 1, 9, 101)
+			.rule(1, 200, ValidationUtils.&isBizRegNumber as ValidationUtils.RangeValidator)
+			.test(2, 300, { String email -> ValidationUtils.isEmailAddress(email) })
+			.pattern(3, Pattern.compile('\\d{4}'), 400)
+			.build()
+
+	def "validate() - 구분자로 이어진 행"() {
+
+		when:
+			ValidationPlan.Result result = plan.validate([
+					'홍길동,110-81-28774,tw.jang@geronimo.io,2024',
+					',110-81-28775,tw.jang@geronimo,24',
+					'홍길동전우치,,,',
+					'홍길동',
+					null
+			] as CharSequence[])
+
+		then:
+			result.rowCount == 5
+			(0..<result.size()).collect { [result.getRow(it), result.getColumn(it), result.getCode(it)] } == [
+					[1, 0, 100], [1, 1, 200], [1, 2, 300], [1, 3, 400],
+					[2, 0, 101],
+					[4, 0, 100]
+			]
+			result.invalidRows.stream().toArray() == [1, 2, 4] as int[]
+	}
+
+	def "validate() - 필드 배열, failFast"() {
+
+		setup:
+			ValidationPlan failFast = ValidationPlan.builder(',' as char)
+					.required(0, 1).length(0, 2, 3, 2)
+					.required(1, 3)
+					.failFast()
+					.build()
+
+		when:
+			ValidationPlan.Result result = failFast.validate([
+					['ab', 'x'], ['a', null], [null], null
+			] as CharSequence[][])
+
+		then:
+			(0..<result.size()).collect { [result.getRow(it), result.getCode(it)] } == [[1, 2], [2, 1], [3, 1]]
+	}
+
+	def "include() - 지정된 모든 종류의 문자를 포함해야 한다"() {
+
+		setup:
+			ValidationPlan include = ValidationPlan.builder(',' as char)
+					.include(0, 'sen', 1)
+					.include(1, 'k', 2)
+					.include(2, 'n', 3)
+					.build()
+
+		when:
+			ValidationPlan.Result result = include.validate([
+					'pass@123,한글,a1',
+					'pass123,abc,abc',
+					'@1,|,',
+					'p@,가a,1x'
+			] as CharSequence[])
+
+		then:
+			(0..<result.size()).collect { [result.getRow(it), result.getColumn(it), result.getCode(it)] } == [
+					[1, 0, 1], [1, 1, 2], [1, 2, 3],
+					[2, 0, 1],
+					[3, 0, 1]
+			]
+	}
+
+	def "validate() - 병렬 검증 결과는 순차 검증과 같다"() {
+
+		setup:
+			int rows = ValidationUtils.PARALLEL_THRESHOLD * 5 + 7
+			CharSequence[] lines = (0..<rows).collect { i -> i % 3 == 0 ? ',x' : "n$i,110-81-28774" } as CharSequence[]
+
+		when:
+			ValidationPlan.Result result = plan.validate(lines)
+
+		then:
+			result.size() == (0..<rows).count { it % 3 == 0 } * 2
+			(0..<result.size()).every { result.getRow(it) % 3 == 0 }
+			(1..<result.size()).every { result.getRow(it - 1) <= result.getRow(it) }
+	}
+}
@@ -0,0 +1,166 @@
+package io.geronimo
+
+import spock.lang.Specification
+
+class ValidationUtilsTest extends Specification {
+
+	def "고정 패턴 검증"() {
+
+		expect:
+			ValidationUtils.isResidentRegNumber('871224-1237613')
+			!ValidationUtils.isResidentRegNumber('871324-1237613')
+			ValidationUtils.isIncorpCertNumber('110111-0398556')
+			ValidationUtils.isBizRegNumber('110-81-28774')
+			!ValidationUtils.isBizRegNumber('110-81-28775')
+			ValidationUtils.isTelephoneNumber('0505-123-1231')
+			ValidationUtils.isCellphoneNumber('018-1231-0912')
+			!ValidationUtils.isCellphoneNumber('015-1231-0912')
+			ValidationUtils.isEmailAddress('tw.jang@geronimo.io')
+			!ValidationUtils.isEmailAddress('tw.jang@geronimo')
+			ValidationUtils.isCardNumber('4009-1311-1234-4321')
+	}
+
+	def "isUserFormat(), isPatternMatching(), isPatternInclude()"() {
+
+		expect:
+			ValidationUtils.isUserFormat('123,456', '###,###')
+			ValidationUtils.isUserFormat('123-45a', '###-##S')
+			!ValidationUtils.isUserFormat('123.456', '###,###')
+			ValidationUtils.isUserFormat('12.3', '##.#')
+			!ValidationUtils.isUserFormat('1213', '##.#')
+			ValidationUtils.isPatternMatching('abc-def', '*-*')
+			!ValidationUtils.isPatternMatching('abc', '*-*')
+			ValidationUtils.isPatternInclude('asdf@5456', 's')
+			ValidationUtils.isPatternInclude('123가32', 'k')
+			ValidationUtils.isPatternInclude('asdfs1dfsdf', 'n')
+			!ValidationUtils.isPatternInclude('asdf', 'n')
+			ValidationUtils.isRegexPatternMatch('aaaaab', 'a*b')
+			!ValidationUtils.isRegexPatternMatch('cabbbb', 'a*b')
+			ValidationUtils.isRegexPatternInclude('cabbbb', 'a*b')
+	}
+
+	def "getPattern() - 컴파일된 Pattern을 캐시"() {
+
+		expect:
+			ValidationUtils.getPattern('[a-z]+\\d').is(ValidationUtils.getPattern('[a-z]+\\d'))
+			ValidationUtils.getPattern('[a-z]+\\d').matcher('abc1').matches()
+	}
+
+	def "주민, 법인, 사업자 등록번호 - 정규식 구현과 같은 결과"() {
+
+		setup:
+			Random random = new Random(3)
+			List<String> residents = (0..<5000).collect { String.format('%06d-%07d', random.nextInt(1000000), random.nextInt(10000000)) }
+			List<String> bizs = (0..<5000).collect { String.format('%03d-%02d-%05d', random.nextInt(1000), random.nextInt(100), random.nextInt(100000)) }
+
+		expect:
+			residents.every { ValidationUtils.isResidentRegNumber(it) == legacyResidentRegNumber(it) }
+			residents.every { ValidationUtils.isIncorpCertNumber(it) == legacyIncorpCertNumber(it) }
+			bizs.every { ValidationUtils.isBizRegNumber(it) == legacyBizRegNumber(it) }
+			residents.count { ValidationUtils.isResidentRegNumber(it) } > 0
+			bizs.count { ValidationUtils.isBizRegNumber(it) } > 0
+			!ValidationUtils.isResidentRegNumber(null)
+			!ValidationUtils.isBizRegNumber('110-81-2877a')
+			!ValidationUtils.isIncorpCertNumber('110111+0398556')
+	}
+
+	def "validate(), validateColumn() - 대량 검증"() {
+
+		setup:
+			int size = ValidationUtils.PARALLEL_THRESHOLD * 2 + 5
+			String[] values = (0..<size).collect { it % 3 == 0 ? '110-81-28774' : (it % 3 == 1 ? '110-81-28775' : null) } as String[]
+			String[] lines = (0..<size).collect { "${it},kim,${values[it] ?: ''},seoul".toString() } as String[]
+
+		when:
+			BitSet valid = ValidationUtils.validate(values, ValidationUtils.&isBizRegNumber as ValidationUtils.RangeValidator)
+			BitSet validColumn = ValidationUtils.validateColumn(lines, 2, ',' as char, ValidationUtils.&isBizRegNumber as ValidationUtils.RangeValidator)
+			BitSet missingColumn = ValidationUtils.validateColumn(lines, 7, ',' as char, ValidationUtils.&isBizRegNumber as ValidationUtils.RangeValidator)
+
+		then:
+			valid.cardinality() == (size + 2).intdiv(3)
+			(0..<size).every { valid.get(it) == (it % 3 == 0) }
+			validColumn == valid
+			missingColumn.isEmpty()
+	}
+
+	def "isPatternMatching(), isPatternInclude() - 정규식 구현과 같은 결과"() {
+
+		setup:
+			Random random = new Random(7)
+			String alphabet = 'ab-@1가|'
+			List<String> values = (0..<3000).collect { (0..<random.nextInt(8)).collect { alphabet[random.nextInt(alphabet.length())] }.join() }
+			List<String> wildcards = ['*', 'a*', '*b', 'a*b', '*-*', 'ab', '', '*a*a*', 'a**b*-', '*aba*', '가*1']
+
+		expect:
+			wildcards.every { p -> values.every { ValidationUtils.isPatternMatching(it, p) == (it ==~ ('^' + p.replace('*', '.*') + '$')) } }
+			['s', 'k', 'e', 'n', 'x', 'nk', 'es'].every { p -> values.every { ValidationUtils.isPatternInclude(it, p) == legacyPatternInclude(it, p) } }
+			ValidationUtils.isPatternMatching('a.c', 'a.c')
+			ValidationUtils.isPatternMatching('abc', 'a.c')
+			!ValidationUtils.isPatternMatching('aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa', '*a*a*a*a*a*a*a*a*b')
+	}
+
+	def "isPatternIncludeAll()"() {
+
+		expect:
+			ValidationUtils.isPatternIncludeAll('asdf@5456', 'sen')
+			!ValidationUtils.isPatternIncludeAll('asdf5456', 'sen')
+			ValidationUtils.isPatternIncludeAll('한a', 'ke')
+			ValidationUtils.isPatternIncludeAll('abc', '')
+			ValidationUtils.getCharClasses('a1@', 0, 3, -1) == (ValidationUtils.CHAR_CLASS_ENGLISH | ValidationUtils.CHAR_CLASS_NUMBER | ValidationUtils.CHAR_CLASS_SPECIAL)
+	}
+
+	static boolean legacyPatternInclude(String str, String param) {
+		if (param.contains('s')) {
+			return str ==~ /.*[~!@\#$%<>^&*\()\-=+_\'].*/
+		}
+		if (param.contains('k')) {
+			return str ==~ /.*[ㄱ-ㅎ|ㅏ-ㅣ|가-힣].*/
+		}
+		if (param.contains('e')) {
+			return str ==~ /.*[a-zA-Z].*/
+		}
+		if (param.contains('n')) {
+			return str ==~ /.*\d.*/
+		}
+		return true
+	}
+
+	static boolean legacyResidentRegNumber(String regno) {
+		if (!(regno ==~ /^([0-9]{2}(?:0[1-9]|1[0-2])(?:0[1-9]|[12][0-9]|3[01]))-([1234][0-9]{6})$/)) {
+			return false
+		}
+		String no = regno.replace('-', '')
+		int sum = 0
+		String bases = '234567892345'
+		for (int i = 0; i < 12; i++) {
+			sum += (no.charAt(i) - ('0' as char)) * (bases.charAt(i) - ('0' as char))
+		}
+		return (11 - sum % 11) % 10 == no.charAt(12) - ('0' as char)
+	}
+
+	static boolean legacyIncorpCertNumber(String corpNumber) {
+		if (!(corpNumber ==~ /^\d{6}-\d{7}$/)) {
+			return false
+		}
+		String no = corpNumber.replace('-', '')
+		int sum = 0
+		for (int i = 0; i < 12; i++) {
+			sum += Character.getNumericValue(no.charAt(i)) * (i % 2 == 0 ? 1 : 2)
+		}
+		return (10 - sum % 10) % 10 == Character.getNumericValue(no.charAt(12))
+	}
+
+	static boolean legacyBizRegNumber(String bizNumber) {
+		if (!(bizNumber ==~ /^\d{3}-\d{2}-\d{5}$/)) {
+			return false
+		}
+		String no = bizNumber.replace('-', '')
+		int[] weights = [1, 3, 7, 1, 3, 7, 1, 3, 5]
+		int sum = 0
+		for (int i = 0; i < 9; i++) {
+			sum += Character.getNumericValue(no.charAt(i)) * weights[i]
+		}
+		sum += (Character.getNumericValue(no.charAt(8)) * 5).intdiv(10)
+		return (10 - sum % 10) % 10 == Character.getNumericValue(no.charAt(9))
+	}
+}